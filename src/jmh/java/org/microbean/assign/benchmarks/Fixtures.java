@@ -0,0 +1,203 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign.benchmarks;
+
+import java.util.List;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.construct.Domain;
+
+/**
+ * Type hierarchies and workloads shared by the benchmarks in this package.
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+final class Fixtures {
+
+  private Fixtures() {
+    super();
+  }
+
+  /**
+   * Returns an immutable {@link List} of {@link TypeMirror}s representative of the supplied workload.
+   *
+   * <p>The supported workloads are:</p>
+   *
+   * <dl>
+   *
+   * <dt>{@code deep}</dt><dd>a class hierarchy sixteen levels deep</dd>
+   *
+   * <dt>{@code wide}</dt><dd>a class implementing thirty-two interfaces, some of which extend others</dd>
+   *
+   * <dt>{@code parameterized}</dt><dd>parameterized collection types from {@code java.util}</dd>
+   *
+   * <dt>{@code array}</dt><dd>array types of several dimensions</dd>
+   *
+   * </dl>
+   *
+   * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @param workload the name of a workload; must not be {@code null}
+   *
+   * @return a non-{@code null}, non-empty, immutable {@link List} of {@link TypeMirror}s
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code workload} is not supported
+   */
+  static final List<TypeMirror> types(final Domain domain, final String workload) {
+    return switch (workload) {
+    case "deep" -> List.of(declaredType(domain, Deep15.class),
+                           declaredType(domain, Deep10.class),
+                           declaredType(domain, Deep5.class),
+                           declaredType(domain, Deep0.class));
+    case "wide" -> List.of(declaredType(domain, Wide.class),
+                           declaredType(domain, I31.class),
+                           declaredType(domain, I15.class),
+                           declaredType(domain, I00.class));
+    case "parameterized" -> {
+      final TypeMirror string = domain.declaredType("java.lang.String");
+      yield List.of(domain.declaredType(domain.typeElement("java.util.ArrayList"), string),
+                    domain.declaredType(domain.typeElement("java.util.HashMap"), string, string),
+                    domain.declaredType(domain.typeElement("java.util.List"), string),
+                    domain.declaredType(domain.typeElement("java.util.concurrent.ConcurrentSkipListSet"), string));
+    }
+    case "array" -> {
+      final TypeMirror string = domain.declaredType("java.lang.String");
+      yield List.of(domain.arrayTypeOf(string),
+                    domain.arrayTypeOf(domain.arrayTypeOf(string)),
+                    domain.arrayTypeOf(domain.declaredType("java.lang.Object")),
+                    domain.arrayTypeOf(domain.arrayTypeOf(domain.declaredType(Deep15.class.getCanonicalName()))));
+    }
+    default -> throw new IllegalArgumentException("workload: " + workload);
+    };
+  }
+
+  private static final TypeMirror declaredType(final Domain domain, final Class<?> c) {
+    return domain.declaredType(c.getCanonicalName());
+  }
+
+
+  /*
+   * Deep hierarchy.
+   */
+
+
+  static class Deep0 {}
+
+  static class Deep1 extends Deep0 {}
+
+  static class Deep2 extends Deep1 {}
+
+  static class Deep3 extends Deep2 {}
+
+  static class Deep4 extends Deep3 {}
+
+  static class Deep5 extends Deep4 {}
+
+  static class Deep6 extends Deep5 {}
+
+  static class Deep7 extends Deep6 {}
+
+  static class Deep8 extends Deep7 {}
+
+  static class Deep9 extends Deep8 {}
+
+  static class Deep10 extends Deep9 {}
+
+  static class Deep11 extends Deep10 {}
+
+  static class Deep12 extends Deep11 {}
+
+  static class Deep13 extends Deep12 {}
+
+  static class Deep14 extends Deep13 {}
+
+  static class Deep15 extends Deep14 {}
+
+
+  /*
+   * Wide hierarchy.
+   */
+
+
+  interface I00 {}
+
+  interface I01 {}
+
+  interface I02 {}
+
+  interface I03 {}
+
+  interface I04 {}
+
+  interface I05 {}
+
+  interface I06 {}
+
+  interface I07 {}
+
+  interface I08 extends I00, I01 {}
+
+  interface I09 extends I02, I03 {}
+
+  interface I10 extends I04, I05 {}
+
+  interface I11 extends I06, I07 {}
+
+  interface I12 extends I08, I09 {}
+
+  interface I13 extends I10, I11 {}
+
+  interface I14 extends I12, I13 {}
+
+  interface I15 extends I14 {}
+
+  interface I16 {}
+
+  interface I17 {}
+
+  interface I18 {}
+
+  interface I19 {}
+
+  interface I20 {}
+
+  interface I21 {}
+
+  interface I22 {}
+
+  interface I23 {}
+
+  interface I24 extends I16, I17 {}
+
+  interface I25 extends I18, I19 {}
+
+  interface I26 extends I20, I21 {}
+
+  interface I27 extends I22, I23 {}
+
+  interface I28 extends I24, I25 {}
+
+  interface I29 extends I26, I27 {}
+
+  interface I30 extends I28, I29 {}
+
+  interface I31 extends I30, I15 {}
+
+  static class Wide implements I00, I01, I02, I03, I04, I05, I06, I07, I08, I09, I10, I11, I12, I13, I14, I15,
+                               I16, I17, I18, I19, I20, I21, I22, I23, I24, I25, I26, I27, I28, I29, I30, I31 {}
+
+}
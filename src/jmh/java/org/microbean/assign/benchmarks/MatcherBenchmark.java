@@ -0,0 +1,154 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign.benchmarks;
+
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import java.util.function.Predicate;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.assign.AbstractTypeMatcher;
+import org.microbean.assign.CachingTypes;
+import org.microbean.assign.HierarchyIndex;
+import org.microbean.assign.Types;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link AbstractTypeMatcher}'s {@code covariantlyAssignable(TypeMirror, TypeMirror)} method by testing
+ * each of a workload's types against each of its supertypes, both directly and using {@linkplain
+ * AbstractTypeMatcher#prepare(Object) prepared} receivers.
+ *
+ * <p>Each workload is run against an {@link AbstractTypeMatcher} that does not cache ({@code plain}), one that caches
+ * ({@code caching}), and one that caches and uses a {@link HierarchyIndex} of the workload's types ({@code
+ * indexed}).</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class MatcherBenchmark {
+
+  @Param({ "deep", "wide", "parameterized", "array" })
+  private String workload;
+
+  @Param({ "plain", "caching", "indexed" })
+  private String matcherKind;
+
+  private List<TypeMirror> payloads;
+
+  private List<TypeMirror> receivers;
+
+  private AssignabilityMatcher matcher;
+
+  /**
+   * Creates a new {@link MatcherBenchmark}.
+   */
+  public MatcherBenchmark() {
+    super();
+  }
+
+  /**
+   * Sets up this benchmark's state.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    final Domain domain = new DefaultDomain();
+    this.payloads = Fixtures.types(domain, this.workload);
+    this.receivers = new Types(domain).supertypes(this.payloads.get(0));
+    this.matcher = switch (this.matcherKind) {
+    case "plain" -> new AssignabilityMatcher(domain);
+    case "caching" -> new AssignabilityMatcher(domain, CachingTypes.DEFAULT_MAXIMUM_SIZE, null);
+    case "indexed" ->
+      new AssignabilityMatcher(domain, CachingTypes.DEFAULT_MAXIMUM_SIZE, new HierarchyIndex(new CachingTypes(domain), this.payloads));
+    default -> throw new IllegalStateException("matcherKind: " + this.matcherKind);
+    };
+  }
+
+  /**
+   * Benchmarks {@link AbstractTypeMatcher}'s {@code covariantlyAssignable(TypeMirror, TypeMirror)} method.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void covariantlyAssignable(final Blackhole bh) {
+    for (final TypeMirror receiver : this.receivers) {
+      for (final TypeMirror payload : this.payloads) {
+        bh.consume(this.matcher.test(receiver, payload));
+      }
+    }
+  }
+
+  /**
+   * Benchmarks {@link AbstractTypeMatcher}'s {@code covariantlyAssignableTo(TypeMirror)} method by preparing each
+   * receiver once.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void prepared(final Blackhole bh) {
+    for (final TypeMirror receiver : this.receivers) {
+      final Predicate<TypeMirror> plan = this.matcher.prepare(receiver);
+      for (final TypeMirror payload : this.payloads) {
+        bh.consume(plan.test(payload));
+      }
+    }
+  }
+
+  private static final class AssignabilityMatcher extends AbstractTypeMatcher {
+
+    private AssignabilityMatcher(final Domain domain) {
+      super(domain);
+    }
+
+    private AssignabilityMatcher(final Domain domain, final int maximumCacheSize, final HierarchyIndex hierarchyIndex) {
+      super(domain, maximumCacheSize, hierarchyIndex);
+    }
+
+    @Override // Matcher<TypeMirror, TypeMirror>
+    public final boolean test(final TypeMirror receiver, final TypeMirror payload) {
+      return this.covariantlyAssignable(receiver, payload);
+    }
+
+    @Override // Matcher<TypeMirror, TypeMirror>
+    public final Predicate<TypeMirror> prepare(final TypeMirror receiver) {
+      return this.covariantlyAssignableTo(receiver);
+    }
+
+  }
+
+}
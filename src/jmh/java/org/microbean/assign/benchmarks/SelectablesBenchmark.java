@@ -0,0 +1,106 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.assign.Selectable;
+import org.microbean.assign.Selectables;
+import org.microbean.assign.Types;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link Selectables#filtering(java.util.Collection, java.util.function.BiPredicate)} over collections of
+ * types of various sizes, using assignability as the selector.
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class SelectablesBenchmark {
+
+  @Param({ "100", "10000" })
+  private int size;
+
+  private List<TypeMirror> criteria;
+
+  private Selectable<TypeMirror, TypeMirror> selectable;
+
+  /**
+   * Creates a new {@link SelectablesBenchmark}.
+   */
+  public SelectablesBenchmark() {
+    super();
+  }
+
+  /**
+   * Sets up this benchmark's state.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    final Domain domain = new DefaultDomain();
+    final Types types = new Types(domain);
+    final List<TypeMirror> pool = new ArrayList<>();
+    for (final String workload : List.of("deep", "wide", "parameterized", "array")) {
+      for (final TypeMirror t : Fixtures.types(domain, workload)) {
+        pool.addAll(types.supertypes(t));
+      }
+    }
+    final List<TypeMirror> elements = new ArrayList<>(this.size);
+    for (int i = 0; i < this.size; i++) {
+      elements.add(pool.get(i % pool.size()));
+    }
+    this.criteria = Fixtures.types(domain, "wide");
+    this.selectable = Selectables.filtering(elements, (e, c) -> domain.assignable(c, e));
+  }
+
+  /**
+   * Benchmarks {@link Selectable#select(Object)}.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void select(final Blackhole bh) {
+    for (final TypeMirror c : this.criteria) {
+      bh.consume(this.selectable.select(c));
+    }
+  }
+
+}
@@ -0,0 +1,95 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign.benchmarks;
+
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.assign.SpecializationComparator;
+import org.microbean.assign.Types;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link SpecializationComparator#compare(TypeMirror, TypeMirror)} over all pairs of supertypes of a
+ * workload's types.
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class SpecializationComparatorBenchmark {
+
+  @Param({ "deep", "wide", "parameterized", "array" })
+  private String workload;
+
+  private List<TypeMirror> supertypes;
+
+  private SpecializationComparator comparator;
+
+  /**
+   * Creates a new {@link SpecializationComparatorBenchmark}.
+   */
+  public SpecializationComparatorBenchmark() {
+    super();
+  }
+
+  /**
+   * Sets up this benchmark's state.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    final Domain domain = new DefaultDomain();
+    this.supertypes = new Types(domain).supertypes(Fixtures.types(domain, this.workload).get(0));
+    this.comparator = new SpecializationComparator(domain);
+  }
+
+  /**
+   * Benchmarks {@link SpecializationComparator#compare(TypeMirror, TypeMirror)}.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void compare(final Blackhole bh) {
+    for (final TypeMirror t : this.supertypes) {
+      for (final TypeMirror s : this.supertypes) {
+        bh.consume(this.comparator.compare(t, s));
+      }
+    }
+  }
+
+}
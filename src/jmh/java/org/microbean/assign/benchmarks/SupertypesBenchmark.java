@@ -0,0 +1,119 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign.benchmarks;
+
+import java.util.List;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.assign.CachingTypes;
+import org.microbean.assign.Types;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmarks {@link Types#supertypes(TypeMirror)} and {@link Types#erasedName(TypeMirror)}.
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@Fork(1)
+@Measurement(iterations = 5, time = 1)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+public class SupertypesBenchmark {
+
+  @Param({ "deep", "wide", "parameterized", "array" })
+  private String workload;
+
+  private List<TypeMirror> ts;
+
+  private Types types;
+
+  private CachingTypes cachingTypes;
+
+  /**
+   * Creates a new {@link SupertypesBenchmark}.
+   */
+  public SupertypesBenchmark() {
+    super();
+  }
+
+  /**
+   * Sets up this benchmark's state.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    final Domain domain = new DefaultDomain();
+    this.ts = Fixtures.types(domain, this.workload);
+    this.types = new Types(domain);
+    this.cachingTypes = new CachingTypes(domain);
+  }
+
+  /**
+   * Benchmarks {@link Types#supertypes(TypeMirror)}.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void supertypes(final Blackhole bh) {
+    for (final TypeMirror t : this.ts) {
+      bh.consume(this.types.supertypes(t));
+    }
+  }
+
+  /**
+   * Benchmarks {@link CachingTypes#supertypes(TypeMirror)}.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void cachedSupertypes(final Blackhole bh) {
+    for (final TypeMirror t : this.ts) {
+      bh.consume(this.cachingTypes.supertypes(t));
+    }
+  }
+
+  /**
+   * Benchmarks {@link Types#erasedName(TypeMirror)}.
+   *
+   * @param bh a {@link Blackhole}
+   */
+  @Benchmark
+  public void erasedName(final Blackhole bh) {
+    for (final TypeMirror t : this.ts) {
+      bh.consume(Types.erasedName(t));
+    }
+  }
+
+}
@@ -19,11 +19,17 @@ import java.lang.constant.ConstantDesc;
 import java.lang.constant.DynamicConstantDesc;
 import java.lang.constant.MethodHandleDesc;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
+import java.util.concurrent.atomic.LongAdder;
+
 import java.util.function.Predicate;
 
+import javax.lang.model.element.Element;
 import javax.lang.model.element.QualifiedNameable;
 
 import javax.lang.model.type.DeclaredType;
@@ -64,6 +70,22 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
 
   private final Domain domain;
 
+  // Memoized results of covariantlyAssignable(TypeMirror, TypeMirror) and identical(TypeMirror, TypeMirror); null if
+  // caching is disabled.
+  private final BoundedCache<Question, Boolean> answers;
+
+  // Memoized facts about individual types; null if caching is disabled.
+  private final BoundedCache<TypeMirror, Traits> traits;
+
+  // Answers subtype questions about non-parameterized declared types; null if there is none.
+  private final HierarchyIndex hierarchyIndex;
+
+  // Caches the supertypes of payloads; null if caching is disabled.
+  private final CachingTypes types;
+
+  // How covariantlyAssignable(TypeMirror, TypeMirror) answered its questions, or null if statistics are not kept.
+  private final Counters counters;
+
 
   /*
    * Constructors.
@@ -71,13 +93,96 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
 
 
   /**
-   * Creates a new {@link AbstractTypeMatcher}.
+   * Creates a new {@link AbstractTypeMatcher} that does not cache the results of its {@link
+   * #covariantlyAssignable(TypeMirror, TypeMirror)} and {@link #identical(TypeMirror, TypeMirror)} methods.
    *
    * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @exception NullPointerException if {@code domain} is {@code null}
    */
   protected AbstractTypeMatcher(final Domain domain) {
     super();
     this.domain = Objects.requireNonNull(domain, "domain");
+    this.answers = null;
+    this.traits = null;
+    this.hierarchyIndex = null;
+    this.types = null;
+    this.counters = null;
+  }
+
+  /**
+   * Creates a new {@link AbstractTypeMatcher} that caches the results of its {@link #covariantlyAssignable(TypeMirror,
+   * TypeMirror)} and {@link #identical(TypeMirror, TypeMirror)} methods in a bounded, concurrent cache that evicts its
+   * least recently used entries.
+   *
+   * <p>Cached results are keyed by the identities of the {@link TypeMirror}s in question, not by their {@linkplain
+   * Object#equals(Object) equality}, and are never invalidated, so this constructor should be used only with {@link
+   * Domain}s whose answers for any given pair of {@link TypeMirror} references do not change over time.</p>
+   *
+   * <p>Facts about individual types used by the {@link #nonGenericClassOrRawType(TypeMirror)}, {@link
+   * #unboundedTypeVariable(TypeMirror)} and {@link #yieldsRawType(TypeMirror)} methods, and the {@linkplain
+   * Types#supertypes(TypeMirror) supertypes} of payloads, are similarly cached, in separate caches of the same
+   * size.</p>
+   *
+   * <p>{@linkplain #assignabilityStatistics() Statistics} describing how the {@link #covariantlyAssignable(TypeMirror,
+   * TypeMirror)} method answers its questions are also kept.</p>
+   *
+   * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @param maximumCacheSize the (approximate) maximum number of results to cache; must be positive
+   *
+   * @exception NullPointerException if {@code domain} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code maximumCacheSize} is not positive
+   *
+   * @see #cacheStatistics()
+   *
+   * @see #assignabilityStatistics()
+   */
+  protected AbstractTypeMatcher(final Domain domain, final int maximumCacheSize) {
+    super();
+    this.domain = Objects.requireNonNull(domain, "domain");
+    this.answers = new BoundedCache<>(maximumCacheSize);
+    this.traits = new BoundedCache<>(maximumCacheSize);
+    this.hierarchyIndex = null;
+    this.types = new CachingTypes(domain, maximumCacheSize);
+    this.counters = new Counters();
+  }
+
+  /**
+   * Creates a new {@link AbstractTypeMatcher} that optionally caches the results of its {@link
+   * #covariantlyAssignable(TypeMirror, TypeMirror)} and {@link #identical(TypeMirror, TypeMirror)} methods, and that
+   * answers such questions about {@linkplain HierarchyIndex#indexed(TypeMirror) indexed types} using the supplied {@link
+   * HierarchyIndex}, if any, instead of the supplied {@link Domain}.
+   *
+   * <p>Questions answered by the {@link HierarchyIndex} are not cached, since answering them is already inexpensive.</p>
+   *
+   * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @param maximumCacheSize the (approximate) maximum number of results to cache, or {@code 0} if results should not
+   * be cached; must not be negative
+   *
+   * @param hierarchyIndex a {@link HierarchyIndex} built using the supplied {@link Domain}; may be {@code null}
+   *
+   * @exception NullPointerException if {@code domain} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code maximumCacheSize} is negative
+   *
+   * @see #AbstractTypeMatcher(Domain, int)
+   *
+   * @see HierarchyIndex
+   */
+  protected AbstractTypeMatcher(final Domain domain, final int maximumCacheSize, final HierarchyIndex hierarchyIndex) {
+    super();
+    this.domain = Objects.requireNonNull(domain, "domain");
+    if (maximumCacheSize < 0) {
+      throw new IllegalArgumentException("maximumCacheSize: " + maximumCacheSize);
+    }
+    this.answers = maximumCacheSize == 0 ? null : new BoundedCache<>(maximumCacheSize);
+    this.traits = maximumCacheSize == 0 ? null : new BoundedCache<>(maximumCacheSize);
+    this.hierarchyIndex = hierarchyIndex;
+    this.types = maximumCacheSize == 0 ? null : new CachingTypes(domain, maximumCacheSize);
+    this.counters = maximumCacheSize == 0 ? null : new Counters();
   }
 
 
@@ -271,12 +376,75 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
   }
   */
 
+  /**
+   * Returns an {@link Optional} housing a snapshot of statistics pertaining to the cache of results of the {@link
+   * #covariantlyAssignable(TypeMirror, TypeMirror)} and {@link #identical(TypeMirror, TypeMirror)} methods, or an
+   * {@linkplain Optional#isEmpty() empty <code>Optional</code>} if this {@link AbstractTypeMatcher} does not cache such
+   * results.
+   *
+   * @return an {@link Optional} housing a {@link CacheStatistics}; never {@code null}
+   *
+   * @see #AbstractTypeMatcher(Domain, int)
+   */
+  protected final Optional<CacheStatistics> cacheStatistics() {
+    return this.answers == null ? Optional.empty() : Optional.of(this.answers.statistics());
+  }
+
+  /**
+   * Returns an {@link Optional} housing a snapshot of statistics describing how the default implementation of the
+   * {@link #covariantlyAssignable(TypeMirror, TypeMirror)} method has answered the questions put to it so far, or an
+   * {@linkplain Optional#isEmpty() empty <code>Optional</code>} if this {@link AbstractTypeMatcher} does not keep such
+   * statistics.
+   *
+   * <p>Such statistics are kept only by {@link AbstractTypeMatcher}s that {@linkplain #AbstractTypeMatcher(Domain, int)
+   * cache results}, so that other {@link AbstractTypeMatcher}s do not pay for them.</p>
+   *
+   * @return an {@link Optional} housing an {@link AssignabilityStatistics}; never {@code null}
+   *
+   * @see #covariantlyAssignable(TypeMirror, TypeMirror)
+   *
+   * @see #AbstractTypeMatcher(Domain, int)
+   */
+  protected final Optional<AssignabilityStatistics> assignabilityStatistics() {
+    return this.counters == null ? Optional.empty() : Optional.of(this.counters.snapshot());
+  }
+
   /**
    * Returns {@code true} if and only if {@code payload} is <dfn>covariantly assignable</dfn> to {@code receiver}.
    *
    * <p>The default implementation of this method returns the result of invoking {@link Domain#assignable(TypeMirror,
    * TypeMirror)} on the return value of an invocation of the {@link #domain()} method, supplying the two arguments
-   * <strong>in reverse order</strong>.</p>
+   * <strong>in reverse order</strong>. If this {@link AbstractTypeMatcher} was {@linkplain #AbstractTypeMatcher(Domain,
+   * int, HierarchyIndex) created with a <code>HierarchyIndex</code>} and both arguments are {@linkplain
+   * HierarchyIndex#indexed(TypeMirror) indexed}, the result is instead computed by the {@link HierarchyIndex}.</p>
+   *
+   * <p>If this {@link AbstractTypeMatcher} was {@linkplain #AbstractTypeMatcher(Domain, int) created with a cache}, the
+   * answer to any other question about two distinct {@link TypeMirror}s is cached, and the cache is consulted before
+   * any of the fast paths below, so a repeated question is answered without computing anything about its
+   * arguments.</p>
+   *
+   * <p>Before consulting the {@link Domain}, the default implementation answers the following questions directly, giving
+   * the same answer the {@link Domain} would:</p>
+   *
+   * <ul>
+   *
+   * <li>Any reference type is assignable to {@code java.lang.Object}.</li>
+   *
+   * <li>No array type is assignable to a primitive type, and no primitive type is assignable to an array type.</li>
+   *
+   * <li>An array type is assignable to a declared type if and only if that declared type is {@code java.lang.Object},
+   * {@code java.lang.Cloneable} or {@code java.io.Serializable}, and no declared type is assignable to an array
+   * type.</li>
+   *
+   * <li>If this {@link AbstractTypeMatcher} was {@linkplain #AbstractTypeMatcher(Domain, int) created with a cache}, a
+   * declared type is assignable to a declared type that has no type arguments if and only if the latter's declaring
+   * element declares one of the former's (cached) {@linkplain Types#supertypes(TypeMirror) supertypes}.</li>
+   *
+   * </ul>
+   *
+   * <p>If this {@link AbstractTypeMatcher} was {@linkplain #AbstractTypeMatcher(Domain, int) created with a cache}, the
+   * {@link #assignabilityStatistics()} method reports how often each of these paths is taken. Answers found in the cache
+   * are reported as {@linkplain AssignabilityStatistics#other() other} answers.</p>
    *
    * @param receiver a {@link TypeMirror}; must not be {@code null}; the "left hand side" of the putative assignment
    *
@@ -291,7 +459,150 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
   // Is classOrArrayTypePayload assignable to receiver following the rules of Java assignability
   // (i.e. covariance)?
   protected boolean covariantlyAssignable(final TypeMirror receiver, final TypeMirror payload) {
-    return Objects.requireNonNull(receiver, "receiver") == payload || this.domain().assignable(payload, receiver); // yes, "backwards"
+    if (Objects.requireNonNull(receiver, "receiver") == Objects.requireNonNull(payload, "payload")) {
+      this.count(Counters.IDENTITY);
+      return true;
+    } else if (this.hierarchyIndex != null) {
+      // For non-parameterized declared types, assignability is subtyping
+      final int answer = this.hierarchyIndex.test(payload, receiver);
+      if (answer >= 0) {
+        this.count(Counters.HIERARCHY_INDEX);
+        return answer == 1;
+      }
+    }
+    if (this.answers == null) {
+      return this.computeCovariantlyAssignable(receiver, payload);
+    }
+    // Consult prior answers before any fast path that might compute the payload's supertypes
+    final Question q = new Question(false, receiver, payload);
+    final Boolean answer = this.answers.get(q);
+    if (answer != null) {
+      this.count(Counters.OTHER);
+      return answer;
+    }
+    return this.answers.putIfAbsent(q, this.computeCovariantlyAssignable(receiver, payload));
+  }
+
+  /**
+   * Returns an immutable {@link List} of {@link BitSet}s, one for each of the supplied receivers, in order, such that
+   * the bit at index <var>j</var> of the {@link BitSet} at index <var>i</var> is set if and only if {@linkplain
+   * #covariantlyAssignable(TypeMirror, TypeMirror) <code>payloads.get(</code><var>j</var><code>)</code> is covariantly
+   * assignable to <code>receivers.get(</code><var>i</var><code>)</code>}.
+   *
+   * <p>The default implementation of this method prepares each receiver and each payload once, computing the facts
+   * about it that the fast paths described by the {@link #covariantlyAssignable(TypeMirror, TypeMirror)} method rely
+   * on, such as its kind and its (cached) {@linkplain Types#supertypes(TypeMirror) supertypes}. It then answers each
+   * of the <var>N</var>&times;<var>M</var> questions it can using only those facts, and delegates the rest to the
+   * {@link #covariantlyAssignable(TypeMirror, TypeMirror)} method. Subclasses that override that method such that it
+   * answers any of the questions covered by its fast paths differently should override this method too.</p>
+   *
+   * <p>The {@link BitSet}s in the returned {@link List} are new and owned by the caller.</p>
+   *
+   * <p>To test many payloads against a single receiver, consider using the {@link
+   * #covariantlyAssignableTo(TypeMirror)} method instead.</p>
+   *
+   * @param receivers a {@link List} of {@link TypeMirror}s; must not be {@code null}; the "left hand sides" of the
+   * putative assignments
+   *
+   * @param payloads a {@link List} of {@link TypeMirror}s; must not be {@code null}; the "right hand sides" of the
+   * putative assignments
+   *
+   * @return an immutable {@link List} of {@link BitSet}s with the same size as {@code receivers}; never {@code null}
+   *
+   * @exception NullPointerException if either argument or any of their elements is {@code null}
+   *
+   * @see #covariantlyAssignable(TypeMirror, TypeMirror)
+   */
+  protected List<BitSet> assignabilityMatrix(final List<? extends TypeMirror> receivers,
+                                             final List<? extends TypeMirror> payloads) {
+    final Prepared[] rs = new Prepared[receivers.size()];
+    boolean supertypes = false;
+    for (int i = 0; i < rs.length; i++) {
+      rs[i] = this.prepareReceiver(receivers.get(i));
+      supertypes = supertypes || rs[i].element() != null;
+    }
+    final int m = payloads.size();
+    final Prepared[] ps = new Prepared[m];
+    for (int j = 0; j < m; j++) {
+      ps[j] = this.preparePayload(payloads.get(j), supertypes);
+    }
+    // Fast path counts, added to this.counters, if any, once at the end
+    final long[] counts = new long[Counters.SIZE];
+    final List<BitSet> rows = new ArrayList<>(rs.length);
+    for (final Prepared r : rs) {
+      final BitSet row = new BitSet(m);
+      for (int j = 0; j < m; j++) {
+        final int answer = this.fastPath(r, ps[j]);
+        final boolean assignable;
+        if (answer < 0) {
+          // Counted by covariantlyAssignable(TypeMirror, TypeMirror)
+          assignable = this.covariantlyAssignable(r.type(), ps[j].type());
+        } else {
+          ++counts[answer >> 1];
+          assignable = (answer & 1) == 1;
+        }
+        if (assignable) {
+          row.set(j);
+        }
+      }
+      rows.add(row);
+    }
+    if (this.counters != null) {
+      this.counters.add(counts);
+    }
+    return List.copyOf(rows);
+  }
+
+  /**
+   * Returns a {@link Predicate} whose {@link Predicate#test(Object) test(TypeMirror)} method returns {@code true} if and
+   * only if {@linkplain #covariantlyAssignable(TypeMirror, TypeMirror) its argument is covariantly assignable to the
+   * supplied receiver}.
+   *
+   * <p>The returned {@link Predicate} is a <dfn>plan</dfn> for testing many payloads against the same receiver. The
+   * default implementation of this method computes the facts about the receiver that the fast paths described by the
+   * {@link #covariantlyAssignable(TypeMirror, TypeMirror)} method rely on once, when it is invoked, rather than once
+   * per payload. Questions its fast paths cannot answer are delegated to the {@link #covariantlyAssignable(TypeMirror,
+   * TypeMirror)} method. Subclasses that override that method such that it answers any of the questions covered by its
+   * fast paths differently should override this method too.</p>
+   *
+   * <p>The returned plan does not precompute the receiver's raw type, type arguments, or the bounds of any wildcards
+   * or type variables it involves: the questions that need them are not answered by the fast paths, but by the {@link
+   * Domain}, which considers the receiver as a whole. Subclasses whose {@link #test(Object, Object) test(TypeMirror,
+   * TypeMirror)} method consults such facts may obtain them using the {@link #nonGenericClassOrRawType(TypeMirror)},
+   * {@link #yieldsRawType(TypeMirror)} and {@link #unboundedTypeVariable(TypeMirror)} methods, whose answers are
+   * computed once per type if this {@link AbstractTypeMatcher} was {@linkplain #AbstractTypeMatcher(Domain, int)
+   * created with a cache}.</p>
+   *
+   * <p>This class does not override the {@link #prepare(Object) prepare(TypeMirror)} method, since what its {@link
+   * #test(Object, Object) test(TypeMirror, TypeMirror)} method tests is up to its subclasses. Subclasses whose {@link
+   * #test(Object, Object) test(TypeMirror, TypeMirror)} method tests covariant assignability may wish to override the
+   * {@link #prepare(Object) prepare(TypeMirror)} method to return the result of invoking this method.</p>
+   *
+   * @param receiver a {@link TypeMirror}; must not be {@code null}; the "left hand side" of the putative assignments
+   *
+   * @return a {@link Predicate} that tests whether payloads are covariantly assignable to the supplied receiver; never
+   * {@code null}; the {@link Predicate#test(Object) test(TypeMirror)} method of the returned {@link Predicate} throws a
+   * {@link NullPointerException} if its argument is {@code null}
+   *
+   * @exception NullPointerException if {@code receiver} is {@code null}
+   *
+   * @see #covariantlyAssignable(TypeMirror, TypeMirror)
+   *
+   * @see #assignabilityMatrix(List, List)
+   *
+   * @see Matcher#prepare(Object)
+   */
+  protected Predicate<TypeMirror> covariantlyAssignableTo(final TypeMirror receiver) {
+    final Prepared r = this.prepareReceiver(receiver);
+    return payload -> {
+      // Supertypes are computed lazily, since the plan may see each payload only once
+      final int answer = this.fastPath(r, this.preparePayload(payload, false));
+      if (answer < 0) {
+        return this.covariantlyAssignable(receiver, payload);
+      }
+      this.count(answer >> 1);
+      return (answer & 1) == 1;
+    };
   }
 
   /**
@@ -349,7 +660,11 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
    *
    * <p>The default implementation returns {@code true} if {@code receiver} is literally the very same Java object
    * reference as {@code payload}, or if an invocation of {@link Domain#sameType(TypeMirror, TypeMirror)} with the two
-   * arguments returns {@code true}.</p>
+   * arguments returns {@code true}. If this {@link AbstractTypeMatcher} was {@linkplain #AbstractTypeMatcher(Domain,
+   * int) created with a cache}, the result of that invocation is cached. If this {@link AbstractTypeMatcher} was
+   * {@linkplain #AbstractTypeMatcher(Domain, int, HierarchyIndex) created with a <code>HierarchyIndex</code>} and both
+   * arguments are {@linkplain HierarchyIndex#indexed(TypeMirror) indexed}, the result is instead computed by the {@link
+   * HierarchyIndex}.</p>
    *
    * <p>(As an arbitrary counterexample, Spring <a
    * href="https://github.com/spring-projects/spring-framework/blob/v6.2.1/spring-core/src/main/java/org/springframework/util/TypeUtils.java#L57">relies
@@ -370,9 +685,19 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
   protected boolean identical(final TypeMirror receiver, final TypeMirror payload) {
     // CDI has an undefined notion of "identical to". This method attempts to divine and implement the intent. Recall
     // that javax.lang.model.* compares types with "sameType" semantics.
-    return
-      Objects.requireNonNull(receiver, "receiver") == Objects.requireNonNull(payload, "payload") ||
-      this.domain().sameType(receiver, payload);
+    if (Objects.requireNonNull(receiver, "receiver") == Objects.requireNonNull(payload, "payload")) {
+      return true;
+    } else if (this.hierarchyIndex != null) {
+      // Indexed types are the same type if and only if each is a subtype of the other
+      final int answer = this.hierarchyIndex.test(payload, receiver);
+      if (answer >= 0) {
+        return answer == 1 && this.hierarchyIndex.test(receiver, payload) == 1;
+      }
+    }
+    if (this.answers == null) {
+      return this.domain().sameType(receiver, payload);
+    }
+    return this.answers.computeIfAbsent(new Question(true, receiver, payload), q -> this.domain().sameType(receiver, payload));
   }
 
   // Return t if its element declares a non-generic class, or if it is the raw type usage of a generic class.
@@ -395,7 +720,11 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
   // TODO: OK, Domain#rawType(TypeMirror) is fixed in microbean-construct v0.18-SNAPSHOT but what about
   // AbstractTypeMatcher subclasses that use THIS method?
   protected TypeMirror nonGenericClassOrRawType(final TypeMirror t) {
-    return this.yieldsRawType(t) ? this.domain().rawType(t) : t;
+    if (this.traits == null) {
+      return this.yieldsRawType(t) ? this.domain().rawType(t) : t;
+    }
+    final TypeMirror rawType = this.traits(t).rawType();
+    return rawType == null ? t : rawType;
   }
 
   /**
@@ -432,9 +761,16 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
   // interpretation T extends S would not be considered an unbounded type variable. Type variable bounds are erased in
   // every other situation in CDI.
   protected final boolean unboundedTypeVariable(TypeMirror t) {
+    if (this.traits != null) {
+      return this.traits(t).unboundedTypeVariable();
+    }
+    return this.computeUnboundedTypeVariable(t);
+  }
+
+  private final boolean computeUnboundedTypeVariable(TypeMirror t) {
     if (t.getKind() == TypeKind.TYPEVAR) {
       t = ((TypeVariable)t).getUpperBound();
-      return this.domain().javaLangObject(t) || this.unboundedTypeVariable(t);
+      return this.domain().javaLangObject(t) || this.computeUnboundedTypeVariable(t);
     }
     return false;
     /*
@@ -468,11 +804,137 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
   // * a declared type with at least one type argument ("parameterized")
   // * an array type with a parameterized element type
   protected final boolean yieldsRawType(final TypeMirror t) {
+    if (this.traits != null) {
+      return this.traits(t).rawType() != null;
+    }
     final TypeMirror rawT = this.domain().rawType(t);
     return rawT != null && rawT != t;
     // return parameterized(t) || t.getKind() == TypeKind.ARRAY && parameterized(elementType(t));
   }
 
+  // Returns 1 if payload is a declared type that is a subtype of receiver, a declared type with no type arguments, 0 if
+  // it is a declared type that is not, or -1 if the question cannot be answered using payload's cached supertypes.
+  //
+  // A declared type is assignable to a declared type with no type arguments (a non-generic class or interface, or a raw
+  // type) if and only if one of its supertypes has the same declaring element.
+  private final int supertypesTest(final TypeMirror receiver, final TypeMirror payload) {
+    if (this.types == null || payload.getKind() != TypeKind.DECLARED || !HierarchyIndex.nonParameterized(receiver)) {
+      return -1;
+    }
+    return supertypesTest(((DeclaredType)receiver).asElement(), this.erasedName(receiver), this.types.supertypes(payload));
+  }
+
+  // Returns -1 if the question of whether p is covariantly assignable to r cannot be answered by a fast path, or
+  // otherwise the Counters index of the fast path that answers it, shifted left by one bit, with the low bit set if and
+  // only if the answer is true. The answers must agree with those of covariantlyAssignable(TypeMirror, TypeMirror).
+  private final int fastPath(final Prepared r, final Prepared p) {
+    final TypeKind rk = r.kind();
+    final TypeKind pk = p.kind();
+    if (r.type() == p.type()) {
+      return Counters.IDENTITY << 1 | 1;
+    } else if (this.hierarchyIndex != null) {
+      final int answer = this.hierarchyIndex.test(p.type(), r.type());
+      if (answer >= 0) {
+        return Counters.HIERARCHY_INDEX << 1 | answer;
+      }
+    }
+    if (rk == TypeKind.ARRAY && pk.isPrimitive() || rk.isPrimitive() && pk == TypeKind.ARRAY) {
+      return Counters.PRIMITIVE_ARRAY << 1;
+    } else if (rk == TypeKind.ARRAY && pk == TypeKind.DECLARED) {
+      return Counters.ARRAY_DECLARED << 1;
+    } else if (r.javaLangObject() && reference(pk)) {
+      return Counters.JAVA_LANG_OBJECT << 1 | 1;
+    } else if (rk == TypeKind.DECLARED && pk == TypeKind.ARRAY) {
+      return Counters.ARRAY_DECLARED << 1 | (r.arraySupertype() ? 1 : 0);
+    } else if (r.element() != null && pk == TypeKind.DECLARED) {
+      final SupertypeList supertypes = p.supertypes() == null ? this.types.supertypes(p.type()) : p.supertypes();
+      final int answer = supertypesTest(r.element(), r.erasedName(), supertypes);
+      if (answer >= 0) {
+        return Counters.SUPERTYPES << 1 | answer;
+      }
+    }
+    return -1;
+  }
+
+  // Prepares t for use as the payload in many covariantlyAssignable(TypeMirror, TypeMirror) questions, computing its
+  // supertypes only if asked.
+  private final Prepared preparePayload(final TypeMirror t, final boolean supertypes) {
+    final TypeKind k = t.getKind(); // implicit null check
+    if (supertypes && k == TypeKind.DECLARED && this.types != null) {
+      return new Prepared(t, k, false, false, null, null, this.types.supertypes(t));
+    }
+    return new Prepared(t, k, false, false, null, null, null);
+  }
+
+  // Prepares t for use as the receiver in many covariantlyAssignable(TypeMirror, TypeMirror) questions.
+  private final Prepared prepareReceiver(final TypeMirror t) {
+    final TypeKind k = Objects.requireNonNull(t, "receiver").getKind();
+    if (k != TypeKind.DECLARED) {
+      return new Prepared(t, k, false, false, null, null, null);
+    }
+    final boolean javaLangObject = this.domain().javaLangObject(t);
+    final boolean arraySupertype = javaLangObject || arraySupertype((DeclaredType)t);
+    if (this.types != null && HierarchyIndex.nonParameterized(t)) {
+      return new Prepared(t, k, javaLangObject, arraySupertype, ((DeclaredType)t).asElement(), this.erasedName(t), null);
+    }
+    return new Prepared(t, k, javaLangObject, arraySupertype, null, null, null);
+  }
+
+  // Answers a covariantlyAssignable(TypeMirror, TypeMirror) question that is neither an identity question nor one the
+  // HierarchyIndex, if any, answers. The cheapest tests, which examine only kinds, come first; none consults the
+  // Domain.
+  private final boolean computeCovariantlyAssignable(final TypeMirror receiver, final TypeMirror payload) {
+    final TypeKind rk = receiver.getKind();
+    final TypeKind pk = payload.getKind();
+    if (rk == TypeKind.ARRAY && pk.isPrimitive() || rk.isPrimitive() && pk == TypeKind.ARRAY) {
+      // Arrays are neither boxed nor unboxed
+      this.count(Counters.PRIMITIVE_ARRAY);
+      return false;
+    } else if (rk == TypeKind.ARRAY && pk == TypeKind.DECLARED) {
+      this.count(Counters.ARRAY_DECLARED);
+      return false;
+    } else if (rk == TypeKind.DECLARED && reference(pk) && named((DeclaredType)receiver, "java.lang.Object")) {
+      this.count(Counters.JAVA_LANG_OBJECT);
+      return true;
+    } else if (rk == TypeKind.DECLARED && pk == TypeKind.ARRAY) {
+      // JLS §4.10.3; java.lang.Object was handled above
+      this.count(Counters.ARRAY_DECLARED);
+      return arraySupertype((DeclaredType)receiver);
+    }
+    final int answer = this.supertypesTest(receiver, payload);
+    if (answer >= 0) {
+      this.count(Counters.SUPERTYPES);
+      return answer == 1;
+    }
+    this.count(Counters.OTHER);
+    return this.domain().assignable(payload, receiver); // yes, "backwards"
+  }
+
+  // Records that covariantlyAssignable(TypeMirror, TypeMirror) answered a question using the path with the supplied
+  // Counters index, if statistics are kept.
+  private final void count(final int index) {
+    final Counters counters = this.counters;
+    if (counters != null) {
+      counters.increment(index);
+    }
+  }
+
+  // Returns the erased name of t, canonical if it has been assigned an identifier, without assigning it one; this.types
+  // must not be null. A receiver's erased name need not have an identifier: if it has none, no type in any cached
+  // SupertypeList has it.
+  private final String erasedName(final TypeMirror t) {
+    final ErasedNames erasedNames = this.types.erasedNames();
+    final int id = erasedNames.existingId(t);
+    return id < 0 ? Types.erasedName(t) : erasedNames.name(id);
+  }
+
+  // Returns the (cached) Traits of t; this.traits must not be null.
+  private final Traits traits(final TypeMirror t) {
+    return this.traits.computeIfAbsent(t, x -> {
+      final TypeMirror rawX = this.domain().rawType(x);
+      return new Traits(rawX == x ? null : rawX, this.computeUnboundedTypeVariable(x));
+    });
+  }
 
 
   /*
@@ -529,4 +991,123 @@ public abstract class AbstractTypeMatcher implements Constable, Matcher<TypeMirr
     return ((QualifiedNameable)t.asElement()).getQualifiedName().contentEquals(n);
   }
 
+  // Is t, a declared type, java.lang.Cloneable or java.io.Serializable, and hence a supertype of every array type (JLS
+  // §4.10.3)?
+  private static final boolean arraySupertype(final DeclaredType t) {
+    return named(t, "java.lang.Cloneable") || named(t, "java.io.Serializable");
+  }
+
+  // Is a type of kind k a reference type that is assignable to java.lang.Object?
+  private static final boolean reference(final TypeKind k) {
+    return switch (k) {
+    case ARRAY, DECLARED, INTERSECTION, TYPEVAR -> true;
+    default -> false;
+    };
+  }
+
+  // Returns 1 if the type declared by receiverElement, whose erased name is receiverName, is among supertypes, 0 if it
+  // is not, or -1 if the answer cannot be determined.
+  private static final int supertypesTest(final Element receiverElement,
+                                          final String receiverName,
+                                          final SupertypeList supertypes) {
+    final int i = supertypes.indexOfErasedName(receiverName);
+    if (i < 0) {
+      return 0;
+    }
+    // Guard against distinct elements that share an erased name
+    return ((DeclaredType)supertypes.get(i)).asElement() == receiverElement ? 1 : -1;
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  // Counts of the ways covariantlyAssignable(TypeMirror, TypeMirror) answered its questions.
+  private static final class Counters {
+
+    private static final int IDENTITY = 0;
+
+    private static final int JAVA_LANG_OBJECT = 1;
+
+    private static final int PRIMITIVE_ARRAY = 2;
+
+    private static final int ARRAY_DECLARED = 3;
+
+    private static final int HIERARCHY_INDEX = 4;
+
+    private static final int SUPERTYPES = 5;
+
+    private static final int OTHER = 6;
+
+    private static final int SIZE = 7;
+
+    private final LongAdder[] adders;
+
+    private Counters() {
+      super();
+      this.adders = new LongAdder[SIZE];
+      for (int i = 0; i < SIZE; i++) {
+        this.adders[i] = new LongAdder();
+      }
+    }
+
+    private final void add(final long[] counts) {
+      for (int i = 0; i < SIZE; i++) {
+        if (counts[i] != 0L) {
+          this.adders[i].add(counts[i]);
+        }
+      }
+    }
+
+    private final void increment(final int index) {
+      this.adders[index].increment();
+    }
+
+    private final AssignabilityStatistics snapshot() {
+      return new AssignabilityStatistics(this.adders[IDENTITY].sum(),
+                                         this.adders[JAVA_LANG_OBJECT].sum(),
+                                         this.adders[PRIMITIVE_ARRAY].sum(),
+                                         this.adders[ARRAY_DECLARED].sum(),
+                                         this.adders[HIERARCHY_INDEX].sum(),
+                                         this.adders[SUPERTYPES].sum(),
+                                         this.adders[OTHER].sum());
+    }
+
+  }
+
+  // Facts about a type prepared for many covariantlyAssignable(TypeMirror, TypeMirror) questions. javaLangObject and
+  // arraySupertype (is the type a supertype of every array type?) are computed only for receivers. element and
+  // erasedName are non-null only for receivers that are declared types with no type arguments, and supertypes only for
+  // declared payloads whose supertypes were computed eagerly, and only if caching is enabled.
+  private static final record Prepared(TypeMirror type,
+                                       TypeKind kind,
+                                       boolean javaLangObject,
+                                       boolean arraySupertype,
+                                       Element element,
+                                       String erasedName,
+                                       SupertypeList supertypes) {}
+
+  // Facts about a single type. rawType is the raw type the type yields, or null if it yields none.
+  private static final record Traits(TypeMirror rawType, boolean unboundedTypeVariable) {}
+
+  // A question about two types, compared by identity. sameType is true for identical(TypeMirror, TypeMirror) and false
+  // for covariantlyAssignable(TypeMirror, TypeMirror).
+  private static final record Question(boolean sameType, TypeMirror receiver, TypeMirror payload) {
+
+    @Override // Object
+    public final boolean equals(final Object other) {
+      return
+        other == this ||
+        other instanceof Question q && this.sameType == q.sameType && this.receiver == q.receiver && this.payload == q.payload;
+    }
+
+    @Override // Object
+    public final int hashCode() {
+      return (31 * System.identityHashCode(this.receiver) + System.identityHashCode(this.payload)) * 31 + (this.sameType ? 1 : 0);
+    }
+
+  }
+
 }
@@ -13,9 +13,17 @@
  */
 package org.microbean.assign;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.SequencedSet;
 
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
 import java.util.function.Function;
 
 import static java.util.Collections.unmodifiableSequencedSet;
@@ -106,4 +114,87 @@ public interface Aggregate {
     return unmodifiableSequencedSet(assignments);
   }
 
+  /**
+   * A convenience method that assigns a contextual reference to each of this {@link Aggregate}'s {@link
+   * AttributedElement} instances, concurrently, using the supplied {@link Executor}, and returns the resulting {@link
+   * SequencedSet} of {@link Assignment}s.
+   *
+   * <p>The supplied {@link Function} is applied to the {@linkplain AttributedElement#attributedType() attributed type}
+   * of each {@linkplain #dependencies() dependency} in a separate task submitted to the supplied {@link Executor}. It
+   * must therefore be safe for concurrent use by multiple threads. Dependencies whose resolution involves blocking
+   * operations may be resolved using, for example, an {@link Executor} {@linkplain
+   * java.util.concurrent.Executors#newVirtualThreadPerTaskExecutor() that starts a new virtual thread for each
+   * task}.</p>
+   *
+   * <p>The returned {@link SequencedSet} is ordered exactly as it would be if the {@link #assign(Function)} method had
+   * been invoked instead, regardless of the order in which tasks complete.</p>
+   *
+   * <p>This method waits for all tasks to complete. If any of them fails, then the failure of the earliest such task, in
+   * dependency order, is thrown, and the failures of any later such tasks are {@linkplain
+   * Throwable#addSuppressed(Throwable) added to it as suppressed exceptions}. A failure that is neither a {@link
+   * RuntimeException} nor an {@link Error} is thrown wrapped in a {@link CompletionException}.</p>
+   *
+   * <p><strong>Note:</strong> Undefined behavior may result if an {@link AttributedElement} in the {@linkplain
+   * #dependencies() dependencies} represents this {@link Aggregate} implementation (an {@link Aggregate} may not have
+   * itself as a dependency).</p>
+   *
+   * <p>Typically there is no need to override this method.</p>
+   *
+   * <p>Usage of this method is not required.</p>
+   *
+   * @param r a {@link Function} that retrieves a contextual reference suitable for an {@link AttributedType}; if {@link
+   * #dependencies()} returns a non-empty {@link SequencedSet} then this argument must not be {@code null}
+   *
+   * @param x the {@link Executor} that will apply the supplied {@link Function}; must not be {@code null}
+   *
+   * @return an immutable {@link SequencedSet} of {@link Assignment} instances; never {@code null}
+   *
+   * @exception NullPointerException if {@code x} is {@code null}, or if {@code r} is {@code null} and {@link
+   * #dependencies()} returns a non-empty {@link SequencedSet}
+   *
+   * @exception java.util.concurrent.RejectedExecutionException if {@code x} rejects a task
+   *
+   * @see #assign(Function)
+   */
+  // (Convenience.)
+  public default SequencedSet<? extends Assignment<?>> assign(final Function<? super AttributedType, ?> r, final Executor x) {
+    Objects.requireNonNull(x, "x");
+    final Collection<? extends AttributedElement> ds = this.dependencies();
+    if (ds == null || ds.isEmpty()) {
+      return EMPTY_ASSIGNMENTS;
+    }
+    Objects.requireNonNull(r, "r");
+    final List<AttributedElement> elements = new ArrayList<>(ds);
+    final List<CompletableFuture<?>> values = new ArrayList<>(elements.size());
+    for (final AttributedElement d : elements) {
+      final AttributedType t = d.attributedType();
+      values.add(CompletableFuture.supplyAsync(() -> r.apply(t), x));
+    }
+    final SequencedSet<Assignment<?>> assignments = newLinkedHashSet(elements.size());
+    Throwable failure = null;
+    for (int i = 0; i < elements.size(); i++) {
+      try {
+        final Object value = values.get(i).join(); // waits in dependency order
+        if (failure == null) {
+          assignments.add(new Assignment<>(elements.get(i), value));
+        }
+      } catch (final CompletionException | CancellationException e) {
+        final Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        if (failure == null) {
+          failure = cause;
+        } else if (cause != failure) {
+          failure.addSuppressed(cause);
+        }
+      }
+    }
+    if (failure == null) {
+      return unmodifiableSequencedSet(assignments);
+    } else if (failure instanceof RuntimeException re) {
+      throw re;
+    } else if (failure instanceof Error e) {
+      throw e;
+    }
+    throw new CompletionException(failure);
+  }
+
 }
@@ -0,0 +1,113 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import javax.lang.model.type.TypeMirror;
+
+/**
+ * An immutable snapshot of statistics describing how an {@link AbstractTypeMatcher} answered the questions put to its
+ * {@link AbstractTypeMatcher#covariantlyAssignable(TypeMirror, TypeMirror)} method.
+ *
+ * @param identity the number of questions answered because the receiver and payload were the very same object; never
+ * negative
+ *
+ * @param javaLangObject the number of questions answered because the receiver was {@code java.lang.Object} and the
+ * payload a reference type; never negative
+ *
+ * @param primitiveArray the number of questions answered because one of the receiver and payload was a primitive type
+ * and the other an array type; never negative
+ *
+ * @param arrayDeclared the number of questions answered because one of the receiver and payload was an array type and
+ * the other a declared type; never negative
+ *
+ * @param hierarchyIndex the number of questions answered by a {@link HierarchyIndex}; never negative
+ *
+ * @param supertypes the number of questions answered by consulting the cached {@linkplain Types#supertypes(TypeMirror)
+ * supertypes} of the payload; never negative
+ *
+ * @param other the number of questions answered in any other way, such as by consulting a cache of prior answers or
+ * the {@link org.microbean.construct.Domain}; never negative
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see AbstractTypeMatcher#assignabilityStatistics()
+ */
+public final record AssignabilityStatistics(long identity,
+                                            long javaLangObject,
+                                            long primitiveArray,
+                                            long arrayDeclared,
+                                            long hierarchyIndex,
+                                            long supertypes,
+                                            long other) {
+
+  /**
+   * Creates a new {@link AssignabilityStatistics}.
+   *
+   * @param identity the number of questions answered because the receiver and payload were the very same object; must
+   * not be negative
+   *
+   * @param javaLangObject the number of questions answered because the receiver was {@code java.lang.Object} and the
+   * payload a reference type; must not be negative
+   *
+   * @param primitiveArray the number of questions answered because one of the receiver and payload was a primitive
+   * type and the other an array type; must not be negative
+   *
+   * @param arrayDeclared the number of questions answered because one of the receiver and payload was an array type
+   * and the other a declared type; must not be negative
+   *
+   * @param hierarchyIndex the number of questions answered by a {@link HierarchyIndex}; must not be negative
+   *
+   * @param supertypes the number of questions answered by consulting the cached {@linkplain
+   * Types#supertypes(TypeMirror) supertypes} of the payload; must not be negative
+   *
+   * @param other the number of questions answered in any other way; must not be negative
+   *
+   * @exception IllegalArgumentException if any argument is negative
+   */
+  public AssignabilityStatistics {
+    if (identity < 0L || javaLangObject < 0L || primitiveArray < 0L || arrayDeclared < 0L || hierarchyIndex < 0L ||
+        supertypes < 0L || other < 0L) {
+      throw new IllegalArgumentException("identity: " + identity +
+                                         "; javaLangObject: " + javaLangObject +
+                                         "; primitiveArray: " + primitiveArray +
+                                         "; arrayDeclared: " + arrayDeclared +
+                                         "; hierarchyIndex: " + hierarchyIndex +
+                                         "; supertypes: " + supertypes +
+                                         "; other: " + other);
+    }
+  }
+
+  /**
+   * Returns the number of questions answered without consulting a cache of prior answers or the {@link
+   * org.microbean.construct.Domain}, i.e. the sum of all statistics other than {@linkplain #other() other}.
+   *
+   * @return the number of questions answered by a fast path; never negative
+   */
+  public final long fastPaths() {
+    return
+      this.identity() + this.javaLangObject() + this.primitiveArray() + this.arrayDeclared() + this.hierarchyIndex() +
+      this.supertypes();
+  }
+
+  /**
+   * Returns the total number of questions answered, i.e. the sum of {@linkplain #fastPaths() fast paths} and
+   * {@linkplain #other() others}.
+   *
+   * @return the total number of questions answered; never negative
+   */
+  public final long requests() {
+    return this.fastPaths() + this.other();
+  }
+
+}
@@ -47,6 +47,11 @@ import static java.util.Objects.requireNonNull;
  */
 public final record AttributedElement(Element element, List<Attributes> attributes) implements Attributed, AttributedTyped, Constable {
 
+  // The AttributedType of each AttributedElement, computed once. A record cannot hold it in a field of its own. The
+  // AttributedTypes refer to their elements' types and attributes, but not to the AttributedElements themselves, so
+  // entries are discarded along with their AttributedElements.
+  private static final WeakIdentityCache<AttributedElement, AttributedType> ATTRIBUTED_TYPES = new WeakIdentityCache<>();
+
   /**
    * Creates a new {@link AttributedElement}.
    *
@@ -73,13 +78,16 @@ public final record AttributedElement(Element element, List<Attributes> attribut
   /**
    * Returns this {@link AttributedElement}'s {@link AttributedType}.
    *
+   * <p>The {@link AttributedType} is created the first time this method is invoked, and the same instance is returned
+   * thereafter.</p>
+   *
    * @return this {@link AttributedElement}'s {@link AttributedType}; never {@code null}
    *
    * @see AttributedType
    */
   @Override // AttributedTyped
   public final AttributedType attributedType() {
-    return new AttributedType(this.type(), this.attributes());
+    return ATTRIBUTED_TYPES.computeIfAbsent(this, e -> new AttributedType(e.type(), e.attributes()));
   }
 
   /**
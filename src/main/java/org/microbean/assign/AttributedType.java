@@ -71,7 +71,9 @@ public final record AttributedType(TypeMirror type, List<Attributes> attributes)
    * array} type, a {@linkplain javax.lang.model.type.TypeKind#DECLARED declared} type, or a {@linkplain
    * javax.lang.model.type.TypeKind#TYPEVAR type variable}
    *
-   * @param attributes a {@link List} of {@link Attributes}; must not be {@code null}
+   * @param attributes a {@link List} of {@link Attributes}; must not be {@code null}; if it is an unmodifiable {@link
+   * List} such as one returned by {@link List#of()}, {@link List#copyOf(java.util.Collection)} or {@link
+   * Qualifiers#normalize(List)}, it is used as is rather than copied
    *
    * @exception NullPointerException if either argument is {@code null}
    *
@@ -84,7 +86,7 @@ public final record AttributedType(TypeMirror type, List<Attributes> attributes)
     default:
       throw new IllegalArgumentException("type: " + type);
     }
-    attributes = List.copyOf(attributes);
+    attributes = List.copyOf(attributes); // returns unmodifiable Lists from List.of and List.copyOf as is
   }
 
   /**
@@ -0,0 +1,106 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.Objects;
+
+/**
+ * A fixed-size, row-major matrix of bits packed into {@code long}s.
+ *
+ * <p>Instances of this class are not safe for concurrent use by multiple threads unless they are no longer
+ * modified.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+final class BitMatrix {
+
+  private final int rows;
+
+  private final int columns;
+
+  private final int wordsPerRow;
+
+  private final long[] words;
+
+  /**
+   * Creates a new {@link BitMatrix} with all bits clear.
+   *
+   * @param rows the number of rows; must not be negative
+   *
+   * @param columns the number of columns; must not be negative
+   *
+   * @exception IllegalArgumentException if either argument is negative
+   */
+  BitMatrix(final int rows, final int columns) {
+    super();
+    if (rows < 0 || columns < 0) {
+      throw new IllegalArgumentException("rows: " + rows + "; columns: " + columns);
+    }
+    this.rows = rows;
+    this.columns = columns;
+    this.wordsPerRow = (columns + 63) >>> 6;
+    this.words = new long[rows * this.wordsPerRow];
+  }
+
+  /**
+   * Returns the number of columns in this {@link BitMatrix}.
+   *
+   * @return the number of columns in this {@link BitMatrix}; never negative
+   */
+  final int columns() {
+    return this.columns;
+  }
+
+  /**
+   * Returns {@code true} if and only if the bit at the supplied coordinates is set.
+   *
+   * @param row a row index
+   *
+   * @param column a column index
+   *
+   * @return {@code true} if and only if the bit at the supplied coordinates is set
+   *
+   * @exception IndexOutOfBoundsException if either index is out of bounds
+   */
+  final boolean get(final int row, final int column) {
+    return (this.words[this.index(row, column)] & (1L << column)) != 0L;
+  }
+
+  /**
+   * Returns the number of rows in this {@link BitMatrix}.
+   *
+   * @return the number of rows in this {@link BitMatrix}; never negative
+   */
+  final int rows() {
+    return this.rows;
+  }
+
+  /**
+   * Sets the bit at the supplied coordinates.
+   *
+   * @param row a row index
+   *
+   * @param column a column index
+   *
+   * @exception IndexOutOfBoundsException if either index is out of bounds
+   */
+  final void set(final int row, final int column) {
+    this.words[this.index(row, column)] |= 1L << column; // shift distance is implicitly masked to six bits
+  }
+
+  private final int index(final int row, final int column) {
+    return Objects.checkIndex(row, this.rows) * this.wordsPerRow + (Objects.checkIndex(column, this.columns) >>> 6);
+  }
+
+}
@@ -0,0 +1,318 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import java.util.function.Function;
+
+/**
+ * A bounded, concurrent cache that evicts its least recently used entries once it grows beyond (approximately) a
+ * maximum size.
+ *
+ * <p>The cache is divided into a number of independently locked segments. Values are computed <em>outside</em> of any
+ * lock, so a mapping {@link Function} may itself (recursively) consult the cache that invoked it. As a consequence, a
+ * value for a given key may occasionally be computed more than once; the first value to be stored wins.</p>
+ *
+ * <p>Neither keys nor values may be {@code null}.</p>
+ *
+ * @param <K> the type of key
+ *
+ * @param <V> the type of value
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see CacheStatistics
+ */
+final class BoundedCache<K, V> {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  private static final int MAXIMUM_SEGMENTS = 16; // must be a power of two
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final Segment<K, V>[] segments;
+
+  private final int mask;
+
+  private final LongAdder hits;
+
+  private final LongAdder misses;
+
+  private final LongAdder evictions;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link BoundedCache}.
+   *
+   * @param maximumSize the (approximate) maximum number of entries the cache will hold; must be positive
+   *
+   * @exception IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  @SuppressWarnings("unchecked")
+  BoundedCache(final int maximumSize) {
+    super();
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize: " + maximumSize);
+    }
+    this.hits = new LongAdder();
+    this.misses = new LongAdder();
+    this.evictions = new LongAdder();
+    final int segmentCount = Integer.highestOneBit(Math.min(maximumSize, MAXIMUM_SEGMENTS));
+    final int segmentSize = (maximumSize + segmentCount - 1) / segmentCount; // ceiling
+    this.segments = (Segment<K, V>[])new Segment<?, ?>[segmentCount];
+    for (int i = 0; i < segmentCount; i++) {
+      this.segments[i] = new Segment<>(segmentSize, this.evictions);
+    }
+    this.mask = segmentCount - 1;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Removes all entries from this {@link BoundedCache}.
+   *
+   * <p>Statistics are not reset.</p>
+   */
+  final void clear() {
+    for (final Segment<K, V> s : this.segments) {
+      synchronized (s) {
+        s.clear();
+      }
+    }
+  }
+
+  /**
+   * Returns the value cached under the supplied key, computing and caching it with the supplied {@link Function} if
+   * necessary.
+   *
+   * <p>If the supplied {@link Function} returns {@code null}, nothing is cached and {@code null} is returned.</p>
+   *
+   * @param k the key; must not be {@code null}
+   *
+   * @param f the mapping {@link Function}; must not be {@code null}
+   *
+   * @return the cached or computed value, or {@code null} if the supplied {@link Function} returned {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   */
+  final V computeIfAbsent(final K k, final Function<? super K, ? extends V> f) {
+    final Segment<K, V> s = this.segment(k);
+    V v;
+    synchronized (s) {
+      v = s.get(k);
+    }
+    if (v != null) {
+      this.hits.increment();
+      return v;
+    }
+    this.misses.increment();
+    v = f.apply(k); // deliberately outside the lock
+    if (v == null) {
+      return null;
+    }
+    final V existing;
+    synchronized (s) {
+      existing = s.putIfAbsent(k, v);
+    }
+    return existing == null ? v : existing;
+  }
+
+  /**
+   * Returns the value cached under the supplied key, or {@code null} if there is no such value.
+   *
+   * @param k the key; must not be {@code null}
+   *
+   * @return the value cached under the supplied key, or {@code null}
+   *
+   * @exception NullPointerException if {@code k} is {@code null}
+   */
+  final V get(final K k) {
+    final Segment<K, V> s = this.segment(k);
+    final V v;
+    synchronized (s) {
+      v = s.get(k);
+    }
+    if (v == null) {
+      this.misses.increment();
+    } else {
+      this.hits.increment();
+    }
+    return v;
+  }
+
+  /**
+   * Returns the result of applying the supplied {@link Function} to the value cached under the supplied key, or {@code
+   * null} if there is no such value or the {@link Function} returns {@code null}.
+   *
+   * <p>The {@link Function} is applied while a lock is held, so a cached value that is a reference, for example, can be
+   * dereferenced without racing with its removal. A cached value for which the {@link Function} returns {@code null} is
+   * removed, and the lookup is counted as a miss.</p>
+   *
+   * @param <R> the result type
+   *
+   * @param k the key; must not be {@code null}
+   *
+   * @param f a {@link Function} that returns a usable result derived from a cached value, or {@code null} if the value
+   * may no longer be used; must not be {@code null}; invoked while a lock is held, so it should be inexpensive
+   *
+   * @return the result of applying the supplied {@link Function} to the value cached under the supplied key, or {@code
+   * null}
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   */
+  final <R> R get(final K k, final Function<? super V, ? extends R> f) {
+    Objects.requireNonNull(f, "f");
+    final Segment<K, V> s = this.segment(k);
+    R r = null;
+    synchronized (s) {
+      final V v = s.get(k);
+      if (v != null) {
+        r = f.apply(v);
+        if (r == null) {
+          s.remove(k);
+        }
+      }
+    }
+    if (r == null) {
+      this.misses.increment();
+    } else {
+      this.hits.increment();
+    }
+    return r;
+  }
+
+  /**
+   * Caches the supplied value under the supplied key, replacing any value already cached under that key.
+   *
+   * @param k the key; must not be {@code null}
+   *
+   * @param v the value; must not be {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   */
+  final void put(final K k, final V v) {
+    Objects.requireNonNull(v, "v");
+    final Segment<K, V> s = this.segment(k);
+    synchronized (s) {
+      s.put(k, v);
+    }
+  }
+
+  /**
+   * Caches the supplied value under the supplied key unless a value is already cached under that key, and returns the
+   * value that is cached as a result.
+   *
+   * @param k the key; must not be {@code null}
+   *
+   * @param v the value; must not be {@code null}
+   *
+   * @return the value that is cached under the supplied key as a result of this invocation; never {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   */
+  final V putIfAbsent(final K k, final V v) {
+    Objects.requireNonNull(v, "v");
+    final Segment<K, V> s = this.segment(k);
+    final V existing;
+    synchronized (s) {
+      existing = s.putIfAbsent(k, v);
+    }
+    return existing == null ? v : existing;
+  }
+
+  /**
+   * Returns the approximate number of entries in this {@link BoundedCache}.
+   *
+   * @return the approximate number of entries in this {@link BoundedCache}; never negative
+   */
+  final int size() {
+    int size = 0;
+    for (final Segment<K, V> s : this.segments) {
+      synchronized (s) {
+        size += s.size();
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns a snapshot of this {@link BoundedCache}'s statistics.
+   *
+   * @return a non-{@code null} {@link CacheStatistics}
+   */
+  final CacheStatistics statistics() {
+    return new CacheStatistics(this.hits.sum(), this.misses.sum(), this.evictions.sum(), this.size());
+  }
+
+  private final Segment<K, V> segment(final K k) {
+    final int h = k.hashCode(); // implicit null check
+    return this.segments[(h ^ (h >>> 16)) & this.mask];
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  // Guarded by itself.
+  private static final class Segment<K, V> extends LinkedHashMap<K, V> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final int maximumSize;
+
+    private final transient LongAdder evictions;
+
+    private Segment(final int maximumSize, final LongAdder evictions) {
+      super(16, 0.75f, true); // access order
+      this.maximumSize = maximumSize;
+      this.evictions = evictions;
+    }
+
+    @Override // LinkedHashMap<K, V>
+    protected final boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+      if (this.size() > this.maximumSize) {
+        this.evictions.increment();
+        return true;
+      }
+      return false;
+    }
+
+  }
+
+}
@@ -0,0 +1,72 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+/**
+ * An immutable snapshot of statistics pertaining to a bounded cache.
+ *
+ * @param hits the number of lookups that found a cached value; never negative
+ *
+ * @param misses the number of lookups that did not find a cached value; never negative
+ *
+ * @param evictions the number of cached values that were evicted to keep the cache within its bounds; never negative
+ *
+ * @param size the approximate number of values cached at the moment the snapshot was taken; never negative
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+public final record CacheStatistics(long hits, long misses, long evictions, int size) {
+
+  /**
+   * Creates a new {@link CacheStatistics}.
+   *
+   * @param hits the number of lookups that found a cached value; must not be negative
+   *
+   * @param misses the number of lookups that did not find a cached value; must not be negative
+   *
+   * @param evictions the number of cached values that were evicted to keep the cache within its bounds; must not be
+   * negative
+   *
+   * @param size the approximate number of values cached at the moment the snapshot was taken; must not be negative
+   *
+   * @exception IllegalArgumentException if any argument is negative
+   */
+  public CacheStatistics {
+    if (hits < 0L || misses < 0L || evictions < 0L || size < 0) {
+      throw new IllegalArgumentException("hits: " + hits + "; misses: " + misses + "; evictions: " + evictions + "; size: " + size);
+    }
+  }
+
+  /**
+   * Returns the total number of lookups, i.e. the sum of {@linkplain #hits() hits} and {@linkplain #misses() misses}.
+   *
+   * @return the total number of lookups; never negative
+   */
+  public final long requests() {
+    return this.hits() + this.misses();
+  }
+
+  /**
+   * Returns the ratio of {@linkplain #hits() hits} to {@linkplain #requests() requests}, or {@code 1.0} if there have
+   * been no requests.
+   *
+   * @return the ratio of {@linkplain #hits() hits} to {@linkplain #requests() requests}; between {@code 0.0} and
+   * {@code 1.0}, inclusive
+   */
+  public final double hitRate() {
+    final long requests = this.requests();
+    return requests == 0L ? 1.0 : (double)this.hits() / (double)requests;
+  }
+
+}
@@ -0,0 +1,169 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.microbean.attributes.Attributes;
+
+/**
+ * A {@link Qualifiers} that memoizes the {@link List}s of {@link Attributes}s it {@linkplain #normalize(List)
+ * normalizes} and {@linkplain #qualifiers(Collection) filters} in bounded, concurrent caches that evict their least
+ * recently used entries.
+ *
+ * <p>Results are keyed by the {@link List}s for which they were computed, using {@link List#equals(Object)} semantics,
+ * which test for identity before comparing elements. Equal inputs therefore yield identical, canonical results, and a
+ * canonical result supplied as an input is found without comparing its elements. Keys are immutable copies of the
+ * supplied {@link List}s, so callers may go on to modify the {@link List}s they supply.</p>
+ *
+ * <p>Only invocations of the {@link #qualifiers(Collection)} method whose argument is a {@link List} are cached, since
+ * other {@link Collection}s do not have well-defined equality semantics.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see #statistics()
+ */
+public class CachingQualifiers extends Qualifiers {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  /**
+   * The default maximum number of {@link List}s a {@link CachingQualifiers} will cache per method ({@value}).
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final BoundedCache<List<Attributes>, List<Attributes>> normalized;
+
+  private final BoundedCache<List<?>, List<Attributes>> qualifiers;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link CachingQualifiers} that will cache at most (approximately) {@value #DEFAULT_MAXIMUM_SIZE}
+   * {@link List}s per method.
+   *
+   * @see #CachingQualifiers(int)
+   */
+  public CachingQualifiers() {
+    this(DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Creates a new {@link CachingQualifiers}.
+   *
+   * @param maximumSize the (approximate) maximum number of {@link List}s to cache per method; must be positive
+   *
+   * @exception IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  public CachingQualifiers(final int maximumSize) {
+    super();
+    this.normalized = new BoundedCache<>(maximumSize);
+    this.qualifiers = new BoundedCache<>(maximumSize);
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Clears this {@link CachingQualifiers}' caches.
+   *
+   * <p>{@linkplain #statistics() Statistics} are not reset.</p>
+   */
+  public final void clear() {
+    this.normalized.clear();
+    this.qualifiers.clear();
+  }
+
+  /**
+   * Returns an immutable, canonical {@link List} of {@link Attributes}s that is {@linkplain List#equals(Object) equal
+   * to} the supplied {@link List}, computing and caching it if necessary.
+   *
+   * @param list a {@link List} of {@link Attributes}s; must not be {@code null}
+   *
+   * @return an immutable {@link List} of {@link Attributes}s that is {@linkplain List#equals(Object) equal to} the
+   * supplied {@link List}; never {@code null}
+   *
+   * @exception NullPointerException if {@code list} is {@code null}
+   *
+   * @see Qualifiers#normalize(List)
+   */
+  @Override // Qualifiers
+  public final List<Attributes> normalize(final List<Attributes> list) {
+    if (list.isEmpty()) {
+      return List.of();
+    }
+    final List<Attributes> cached = this.normalized.get(list);
+    if (cached != null) {
+      return cached;
+    }
+    final List<Attributes> normalized = super.normalize(list);
+    return this.normalized.putIfAbsent(normalized, normalized); // the result is equal to, and can key for, the input
+  }
+
+  /**
+   * Returns an unmodifiable, canonical {@link List} consisting only of those {@link Attributes} in the supplied {@link
+   * Collection} that {@linkplain #qualifier(Attributes) are qualifiers}, computing and caching it if necessary.
+   *
+   * @param c a {@link Collection} of {@link Attributes}s; must not be {@code null}
+   *
+   * @return an unmodifiable {@link List} consisting only of those {@link Attributes}s in the supplied {@link
+   * Collection} that {@linkplain #qualifier(Attributes) are qualifiers}; never {@code null}
+   *
+   * @exception NullPointerException if {@code c} is {@code null}
+   *
+   * @see Qualifiers#qualifiers(Collection)
+   */
+  @Override // Qualifiers
+  public final List<Attributes> qualifiers(final Collection<? extends Attributes> c) {
+    if (c.isEmpty() || !(c instanceof List<?> list)) {
+      return super.qualifiers(c);
+    }
+    final List<Attributes> cached = this.qualifiers.get(list);
+    if (cached != null) {
+      return cached;
+    }
+    final List<Attributes> qualifiers = super.qualifiers(c); // elements are already normalized
+    return this.qualifiers.putIfAbsent(List.copyOf(list), qualifiers.isEmpty() ? List.of() : qualifiers);
+  }
+
+  /**
+   * Returns a snapshot of statistics pertaining to this {@link CachingQualifiers}' caches, combined.
+   *
+   * @return a non-{@code null} {@link CacheStatistics}
+   */
+  public final CacheStatistics statistics() {
+    final CacheStatistics n = this.normalized.statistics();
+    final CacheStatistics q = this.qualifiers.statistics();
+    return new CacheStatistics(n.hits() + q.hits(), n.misses() + q.misses(), n.evictions() + q.evictions(), n.size() + q.size());
+  }
+
+}
@@ -0,0 +1,140 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.construct.Domain;
+
+/**
+ * A {@link Types} that memoizes the {@link SupertypeList}s it {@linkplain #supertypes(TypeMirror) computes} in a
+ * bounded, concurrent cache that evicts its least recently used entries.
+ *
+ * <p>Cached {@link SupertypeList}s are keyed by the {@link TypeMirror}s for which they were computed, using {@link
+ * TypeMirror#equals(Object)} semantics, which for most {@link Domain} implementations are identity semantics.</p>
+ *
+ * <p>When a {@link SupertypeList} for a declared type is not already cached, it is assembled from the (cached, or
+ * recursively computed and cached) {@link SupertypeList}s of the type's direct supertypes, rather than by traversing
+ * the type's entire supertype graph. Computing the supertypes of many types in a class hierarchy therefore visits each
+ * type in the hierarchy only once.</p>
+ *
+ * <p>Only invocations of the {@link #supertypes(TypeMirror)} method are cached. Invocations of the {@link
+ * #supertypes(TypeMirror, java.util.function.Predicate)} method are not, since {@link java.util.function.Predicate}s
+ * do not have well-defined equality semantics.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see #supertypes(TypeMirror)
+ *
+ * @see #statistics()
+ */
+public class CachingTypes extends Types {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  /**
+   * The default maximum number of {@link SupertypeList}s a {@link CachingTypes} will cache ({@value}).
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final BoundedCache<TypeMirror, SupertypeList> cache;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link CachingTypes} that will cache at most (approximately) {@value #DEFAULT_MAXIMUM_SIZE} {@link
+   * SupertypeList}s.
+   *
+   * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @exception NullPointerException if {@code domain} is {@code null}
+   *
+   * @see #CachingTypes(Domain, int)
+   */
+  public CachingTypes(final Domain domain) {
+    this(domain, DEFAULT_MAXIMUM_SIZE);
+  }
+
+  /**
+   * Creates a new {@link CachingTypes}.
+   *
+   * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @param maximumSize the (approximate) maximum number of {@link SupertypeList}s to cache; must be positive
+   *
+   * @exception NullPointerException if {@code domain} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  public CachingTypes(final Domain domain, final int maximumSize) {
+    super(domain);
+    this.cache = new BoundedCache<>(maximumSize);
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Clears this {@link CachingTypes}' cache.
+   *
+   * <p>{@linkplain #statistics() Statistics} are not reset.</p>
+   */
+  public final void clear() {
+    this.cache.clear();
+  }
+
+  /**
+   * Returns a snapshot of statistics pertaining to this {@link CachingTypes}' cache.
+   *
+   * @return a non-{@code null} {@link CacheStatistics}
+   */
+  public final CacheStatistics statistics() {
+    return this.cache.statistics();
+  }
+
+  /**
+   * Returns a non-{@code null} {@link SupertypeList} of the supertypes of the supplied {@link TypeMirror}, computing
+   * and caching it if necessary.
+   *
+   * @param t a {@link TypeMirror}; must not be {@code null}
+   *
+   * @return a non-{@code null} {@link SupertypeList} of the supertypes of the supplied {@link TypeMirror}
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   *
+   * @see Types#supertypes(TypeMirror)
+   */
+  @Override // Types
+  public final SupertypeList supertypes(final TypeMirror t) {
+    return this.cache.computeIfAbsent(t, x -> this.mergedSupertypes(x, this::supertypes)); // recursive
+  }
+
+}
@@ -0,0 +1,278 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.Arrays;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.lang.model.element.Element;
+
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.type.TypeVariable;
+
+/**
+ * An interning table that maps {@linkplain Types#erasedName(TypeMirror) erased names} to dense, non-negative {@code
+ * int} identifiers and back again.
+ *
+ * <p>Two {@link TypeMirror}s have the same identifier if and only if they have {@linkplain String#equals(Object) equal}
+ * erased names. Identifiers are assigned in order of first encounter and are therefore not determinate across
+ * tables; the erased names they denote are.</p>
+ *
+ * <p>Once an {@link Element} or an array's component type has been assigned an identifier, looking up the identifier
+ * of a {@link TypeMirror} it declares does not allocate.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see Types#erasedName(TypeMirror)
+ */
+final class ErasedNames {
+
+  // Element -> id
+  private final ConcurrentHashMap<Element, Integer> elementIds;
+
+  // erased name -> id
+  private final ConcurrentHashMap<String, Integer> nameIds;
+
+  // id -> erased name; grown and written while holding this object's monitor
+  private volatile String[] names;
+
+  // component type id -> array type id + 1 (0 means unassigned); grown and written while holding this object's monitor
+  private volatile int[] arrayIds;
+
+  // Guarded by this.
+  private int size;
+
+  /**
+   * Creates a new, empty {@link ErasedNames}.
+   */
+  ErasedNames() {
+    super();
+    this.elementIds = new ConcurrentHashMap<>();
+    this.nameIds = new ConcurrentHashMap<>();
+    this.names = new String[64]; // arbitrary size
+    this.arrayIds = new int[16]; // arbitrary size
+  }
+
+  /**
+   * Returns the identifier of the supplied erased name, or {@code -1} if none has been assigned.
+   *
+   * @param erasedName an erased name; must not be {@code null}
+   *
+   * @return a non-negative identifier, or {@code -1}
+   *
+   * @exception NullPointerException if {@code erasedName} is {@code null}
+   */
+  final int existingId(final String erasedName) {
+    final Integer id = this.nameIds.get(erasedName);
+    return id == null ? -1 : id;
+  }
+
+  /**
+   * Returns the identifier of the erased name of the supplied {@link Element}, or {@code -1} if none has been assigned.
+   *
+   * <p>Unlike the {@link #id(Element)} method, this method never assigns an identifier.</p>
+   *
+   * @param e an {@link Element}; must not be {@code null}
+   *
+   * @return a non-negative identifier, or {@code -1}
+   *
+   * @exception NullPointerException if {@code e} is {@code null}
+   */
+  final int existingId(final Element e) {
+    final Integer id = this.elementIds.get(e);
+    return id == null ? this.existingId(Types.erasedName(e)) : id;
+  }
+
+  /**
+   * Returns the identifier of the {@linkplain Types#erasedName(TypeMirror) erased name} of the supplied {@link
+   * TypeMirror}, or {@code -1} if none has been assigned.
+   *
+   * <p>Unlike the {@link #id(TypeMirror)} method, this method never assigns an identifier, so it may be used to look up
+   * arbitrary {@link TypeMirror}s without growing this {@link ErasedNames}.</p>
+   *
+   * @param t a {@link TypeMirror}; must not be {@code null}
+   *
+   * @return a non-negative identifier, or {@code -1}
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   *
+   * @see #id(TypeMirror)
+   */
+  final int existingId(final TypeMirror t) {
+    return switch (t.getKind()) {
+    case ARRAY -> {
+      final int componentId = this.existingId(((ArrayType)t).getComponentType());
+      yield componentId < 0 ? -1 : this.existingArrayId(componentId);
+    }
+    case DECLARED -> this.existingId(((DeclaredType)t).asElement());
+    case TYPEVAR -> this.existingId(((TypeVariable)t).asElement());
+    default -> this.existingId(Types.erasedName(t));
+    };
+  }
+
+  /**
+   * Returns the identifier of the erased name of the supplied {@link Element}, assigning one if necessary.
+   *
+   * @param e an {@link Element}; must not be {@code null}
+   *
+   * @return a non-negative identifier
+   *
+   * @exception NullPointerException if {@code e} is {@code null}
+   */
+  final int id(final Element e) {
+    final Integer id = this.elementIds.get(e);
+    return id == null ? this.elementIds.computeIfAbsent(e, x -> this.id(Types.erasedName(x))) : id;
+  }
+
+  /**
+   * Returns the identifier of the supplied erased name, assigning one if necessary.
+   *
+   * @param erasedName an erased name; must not be {@code null}
+   *
+   * @return a non-negative identifier
+   *
+   * @exception NullPointerException if {@code erasedName} is {@code null}
+   */
+  final int id(final String erasedName) {
+    final Integer id = this.nameIds.get(erasedName);
+    return id == null ? this.register(erasedName) : id;
+  }
+
+  /**
+   * Returns the identifier of the {@linkplain Types#erasedName(TypeMirror) erased name} of the supplied {@link
+   * TypeMirror}, assigning one if necessary.
+   *
+   * @param t a {@link TypeMirror}; must not be {@code null}
+   *
+   * @return a non-negative identifier
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   *
+   * @see Types#erasedName(TypeMirror)
+   */
+  final int id(final TypeMirror t) {
+    return switch (t.getKind()) {
+    case ARRAY -> this.arrayId(this.id(((ArrayType)t).getComponentType()));
+    case DECLARED -> this.id(((DeclaredType)t).asElement());
+    case TYPEVAR -> this.id(((TypeVariable)t).asElement());
+    default -> this.id(Types.erasedName(t)); // primitive names are constants; other kinds are rare
+    };
+  }
+
+  /**
+   * Returns the canonical erased name denoted by the supplied identifier.
+   *
+   * @param id an identifier previously returned by one of this {@link ErasedNames}' {@code id} methods
+   *
+   * @return the canonical erased name denoted by the supplied identifier; never {@code null}
+   *
+   * @exception IndexOutOfBoundsException if {@code id} was not returned by one of this {@link ErasedNames}' {@code id}
+   * methods
+   */
+  final String name(final int id) {
+    String name = this.names[id];
+    if (name == null) {
+      // id was read racily (see #arrayId(int)); synchronize to see the write
+      synchronized (this) {
+        name = this.names[id];
+      }
+      if (name == null) {
+        throw new IndexOutOfBoundsException(id);
+      }
+    }
+    return name;
+  }
+
+  /**
+   * Returns the canonical {@linkplain Types#erasedName(TypeMirror) erased name} of the supplied {@link TypeMirror}.
+   *
+   * <p>The returned {@link String} is {@linkplain String#equals(Object) equal to} the return value of an invocation of
+   * {@link Types#erasedName(TypeMirror)} with the same argument, but is not built anew on every invocation.</p>
+   *
+   * @param t a {@link TypeMirror}; must not be {@code null}
+   *
+   * @return the canonical erased name of the supplied {@link TypeMirror}; never {@code null}
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   */
+  final String name(final TypeMirror t) {
+    return this.name(this.id(t));
+  }
+
+  /**
+   * Returns the number of identifiers assigned so far; every identifier is less than this value.
+   *
+   * @return the number of identifiers assigned so far; never negative
+   */
+  final synchronized int size() {
+    return this.size;
+  }
+
+  private final int arrayId(final int componentId) {
+    final int[] arrayIds = this.arrayIds;
+    if (componentId < arrayIds.length) {
+      final int id = arrayIds[componentId]; // racy but benign: ints are atomic, and a stale 0 is handled below
+      if (id != 0) {
+        return id - 1;
+      }
+    }
+    return this.registerArray(componentId);
+  }
+
+  private final int existingArrayId(final int componentId) {
+    final int[] arrayIds = this.arrayIds;
+    if (componentId < arrayIds.length) {
+      final int id = arrayIds[componentId]; // racy but benign; see #arrayId(int)
+      if (id != 0) {
+        return id - 1;
+      }
+    }
+    // The array's erased name may have been assigned an identifier directly, by name
+    return this.existingId(this.name(componentId) + "[]");
+  }
+
+  private final synchronized int registerArray(final int componentId) {
+    int[] arrayIds = this.arrayIds;
+    if (componentId < arrayIds.length && arrayIds[componentId] != 0) {
+      return arrayIds[componentId] - 1;
+    }
+    final int id = this.id(this.name(componentId) + "[]"); // reentrant
+    if (componentId >= arrayIds.length) {
+      arrayIds = Arrays.copyOf(arrayIds, Math.max(componentId + 1, arrayIds.length * 2));
+    }
+    arrayIds[componentId] = id + 1;
+    this.arrayIds = arrayIds;
+    return id;
+  }
+
+  private final synchronized int register(final String erasedName) {
+    final Integer existing = this.nameIds.get(erasedName);
+    if (existing != null) {
+      return existing;
+    }
+    final int id = this.size++;
+    String[] names = this.names;
+    if (id >= names.length) {
+      names = Arrays.copyOf(names, names.length * 2);
+    }
+    names[id] = erasedName;
+    this.names = names;
+    this.nameIds.put(erasedName, id); // publishes names[id]
+    return id;
+  }
+
+}
@@ -0,0 +1,315 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+
+import javax.lang.model.element.Element;
+import javax.lang.model.element.TypeElement;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.microbean.construct.Domain;
+
+/**
+ * An immutable index of the subtype relation among the classes and interfaces declared by a known universe of types
+ * and their supertypes, which answers {@linkplain #subtype(TypeMirror, TypeMirror) subtype questions} about
+ * <dfn>indexed types</dfn> in constant time.
+ *
+ * <p>An indexed type is a {@linkplain TypeKind#DECLARED declared type} that has no type arguments (and is not enclosed
+ * by a type that has type arguments), and whose declaring {@link TypeElement} declares one of the types in the
+ * universe, or one of their supertypes. That is, an indexed type is either a non-generic class or interface, or the raw
+ * type of a generic one. The subtype relation among indexed types depends only on their declarations.</p>
+ *
+ * <p>Classes other than {@code java.lang.Object} form a tree under the direct superclass relation. Each class is
+ * assigned an interval of that tree's pre-order numbering, so that one class is a subclass of another if and only if
+ * its interval is nested within the other's. Each indexed type is additionally assigned a set of bits, one for each
+ * interface that is among its supertypes. Every subtype question about two indexed types is therefore answered by a
+ * couple of integer comparisons or a bit test.</p>
+ *
+ * <p>Questions about other types are answered by the {@link Domain}.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see #subtype(TypeMirror, TypeMirror)
+ *
+ * @see SpecializationComparator#SpecializationComparator(Domain, HierarchyIndex)
+ */
+public final class HierarchyIndex {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  private final Domain domain;
+
+  private final ErasedNames erasedNames;
+
+  // Erased name id -> position
+  private final IntSet positions;
+
+  // Declaring elements by position
+  private final Element[] elements;
+
+  // The interval of pre-order numbers [pre, last] of the class at each position and its subclasses; both -1 for
+  // interfaces.
+  private final int[] pre;
+
+  private final int[] last;
+
+  // Interface column by position; -1 for classes.
+  private final int[] columns;
+
+  // interfaces.get(i, c) is true if and only if the interface with column c is a supertype of the type at position i.
+  private final BitMatrix interfaces;
+
+  // Position of java.lang.Object, or -1 if it is not indexed.
+  private final int object;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new {@link HierarchyIndex} covering the supplied universe of types and all of their supertypes.
+   *
+   * <p>This constructor computes the {@linkplain Types#supertypes(TypeMirror) supertypes} of every type it indexes
+   * using the supplied {@link Types}. A {@link CachingTypes} may make doing so much less expensive.</p>
+   *
+   * @param types a {@link Types}; must not be {@code null}
+   *
+   * @param universe a {@link Collection} of {@link TypeMirror}s; must not be {@code null}; types in it that are not
+   * {@linkplain TypeKind#DECLARED declared types} contribute only their declared supertypes
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   */
+  public HierarchyIndex(final Types types, final Collection<? extends TypeMirror> universe) {
+    super();
+    this.domain = types.domain();
+    this.erasedNames = types.erasedNames();
+    final IntSet positions = new IntSet();
+    final List<TypeElement> elements = new ArrayList<>();
+    for (final TypeMirror u : universe) {
+      for (final TypeMirror t : types.supertypes(u)) {
+        if (t.getKind() == TypeKind.DECLARED && positions.add(this.erasedNames.id(t))) {
+          elements.add((TypeElement)((DeclaredType)t).asElement());
+        }
+      }
+    }
+    // The supertypes of every element's declared type. The universe's supertypes are closed under the supertype
+    // relation, so no element is added after this point.
+    final int size = elements.size();
+    final SupertypeList[] closures = new SupertypeList[size];
+    final int[] superclasses = new int[size];
+    final int[] columns = new int[size];
+    int interfaceCount = 0;
+    int object = -1;
+    for (int i = 0; i < size; i++) {
+      final TypeElement e = elements.get(i);
+      closures[i] = types.supertypes(e.asType());
+      superclasses[i] = -1;
+      if (e.getKind().isInterface()) {
+        columns[i] = interfaceCount++;
+      } else {
+        columns[i] = -1;
+        // The supertypes of a class begin with the class itself followed by its superclasses, nearest first.
+        if (closures[i].size() > 1 && !isInterface(closures[i].get(1))) {
+          superclasses[i] = positions.indexOf(this.erasedNames.id(closures[i].get(1)));
+        } else if (e.getQualifiedName().contentEquals("java.lang.Object")) {
+          object = i;
+        }
+      }
+    }
+    final BitMatrix interfaces = new BitMatrix(size, interfaceCount);
+    for (int i = 0; i < size; i++) {
+      for (final TypeMirror t : closures[i].interfaceTypes()) {
+        final int c = columns[positions.indexOf(this.erasedNames.id(t))];
+        if (c >= 0) {
+          interfaces.set(i, c);
+        }
+      }
+    }
+    // Number the class tree (or forest) in pre-order, iteratively, children first by position.
+    final int[] childStart = new int[size + 1];
+    for (int i = 0; i < size; i++) {
+      if (superclasses[i] >= 0) {
+        ++childStart[superclasses[i] + 1];
+      }
+    }
+    for (int i = 0; i < size; i++) {
+      childStart[i + 1] += childStart[i];
+    }
+    final int[] children = new int[childStart[size]];
+    final int[] fill = Arrays.copyOf(childStart, size);
+    for (int i = 0; i < size; i++) {
+      if (superclasses[i] >= 0) {
+        children[fill[superclasses[i]]++] = i;
+      }
+    }
+    final int[] pre = new int[size];
+    final int[] last = new int[size];
+    Arrays.fill(pre, -1);
+    Arrays.fill(last, -1);
+    final int[] stack = new int[size];
+    final int[] next = new int[size]; // index into children of the next child to visit
+    int counter = 0;
+    for (int root = 0; root < size; root++) {
+      if (columns[root] >= 0 || superclasses[root] >= 0) {
+        continue; // not a root of the class forest
+      }
+      int top = 0;
+      stack[0] = root;
+      pre[root] = counter++;
+      next[root] = childStart[root];
+      while (top >= 0) {
+        final int node = stack[top];
+        if (next[node] < childStart[node + 1]) {
+          final int child = children[next[node]++];
+          pre[child] = counter++;
+          next[child] = childStart[child];
+          stack[++top] = child;
+        } else {
+          last[node] = counter - 1;
+          --top;
+        }
+      }
+    }
+    this.positions = positions;
+    this.elements = elements.toArray(new Element[0]);
+    this.pre = pre;
+    this.last = last;
+    this.columns = columns;
+    this.interfaces = interfaces;
+    this.object = object;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns {@code true} if and only if the supplied {@link TypeMirror} is <dfn>indexed</dfn> by this {@link
+   * HierarchyIndex}.
+   *
+   * @param t a {@link TypeMirror}; must not be {@code null}
+   *
+   * @return {@code true} if and only if the supplied {@link TypeMirror} is indexed by this {@link HierarchyIndex}
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   */
+  public final boolean indexed(final TypeMirror t) {
+    return this.position(t) >= 0;
+  }
+
+  /**
+   * Returns the number of classes and interfaces this {@link HierarchyIndex} indexes.
+   *
+   * @return the number of classes and interfaces this {@link HierarchyIndex} indexes; never negative
+   */
+  public final int size() {
+    return this.elements.length;
+  }
+
+  /**
+   * Returns {@code true} if and only if {@code t} is a subtype of {@code s}, as the {@link Domain#subtype(TypeMirror,
+   * TypeMirror)} method would.
+   *
+   * <p>If both arguments are {@linkplain #indexed(TypeMirror) indexed}, this method does not consult the {@link Domain}
+   * and takes constant time.</p>
+   *
+   * @param t a {@link TypeMirror}; must not be {@code null}
+   *
+   * @param s a {@link TypeMirror}; must not be {@code null}
+   *
+   * @return {@code true} if and only if {@code t} is a subtype of {@code s}
+   *
+   * @exception NullPointerException if either argument is {@code null}
+   *
+   * @see Domain#subtype(TypeMirror, TypeMirror)
+   */
+  public final boolean subtype(final TypeMirror t, final TypeMirror s) {
+    final int answer = this.test(t, s);
+    return answer < 0 ? this.domain.subtype(t, s) : answer == 1;
+  }
+
+  // Returns 1 if t and s are both indexed and t is a subtype of s, 0 if they are both indexed and t is not a subtype of
+  // s, or -1 if either is not indexed.
+  final int test(final TypeMirror t, final TypeMirror s) {
+    final int ti = this.position(t);
+    if (ti < 0) {
+      return -1;
+    }
+    final int si = this.position(s);
+    if (si < 0) {
+      return -1;
+    } else if (ti == si) {
+      return 1;
+    } else if (this.columns[si] >= 0) {
+      return this.interfaces.get(ti, this.columns[si]) ? 1 : 0;
+    } else if (this.columns[ti] >= 0) {
+      return si == this.object ? 1 : 0; // an interface's only superclass is java.lang.Object
+    }
+    return this.pre[si] <= this.pre[ti] && this.pre[ti] <= this.last[si] ? 1 : 0;
+  }
+
+  // Returns the position of t, or -1 if t is not indexed.
+  private final int position(final TypeMirror t) {
+    if (!nonParameterized(t)) {
+      return -1;
+    }
+    final Element e = ((DeclaredType)t).asElement();
+    final int id = this.erasedNames.existingId(e); // never assigns an identifier, so queries do not grow erasedNames
+    if (id < 0) {
+      return -1;
+    }
+    final int i = this.positions.indexOf(id);
+    return i >= 0 && this.elements[i] == e ? i : -1; // guard against distinct elements that share an erased name
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  private static final boolean isInterface(final TypeMirror t) {
+    return t.getKind() == TypeKind.DECLARED && ((DeclaredType)t).asElement().getKind().isInterface();
+  }
+
+  // Is t a declared type with no type arguments, enclosed (if at all) only by such types?
+  static final boolean nonParameterized(final TypeMirror t) {
+    TypeMirror x = Objects.requireNonNull(t, "t");
+    while (x.getKind() == TypeKind.DECLARED) {
+      final DeclaredType dt = (DeclaredType)x;
+      if (!dt.getTypeArguments().isEmpty()) {
+        return false;
+      }
+      x = dt.getEnclosingType();
+    }
+    return x != t && x.getKind() == TypeKind.NONE;
+  }
+
+}
@@ -0,0 +1,192 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A growable, insertion-ordered set of non-negative {@code int}s backed by an open-addressed hash table that uses linear
+ * probing.
+ *
+ * <p>No operation boxes its arguments. Once an {@link IntSet} has grown to accommodate a workload, {@linkplain #clear()
+ * clearing} and refilling it does not allocate, which makes instances suitable for pooling.</p>
+ *
+ * <p>Instances of this class are not safe for concurrent use by multiple threads unless they are no longer
+ * modified.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ */
+final class IntSet {
+
+  // Each slot holds the insertion position of the key that hashes to it, plus one; 0 means the slot is empty. The
+  // length is always a power of two and at least twice the size.
+  private int[] table;
+
+  // Keys in insertion order.
+  private int[] keys;
+
+  private int size;
+
+  /**
+   * Creates a new, empty {@link IntSet}.
+   */
+  IntSet() {
+    this(16);
+  }
+
+  /**
+   * Creates a new, empty {@link IntSet} that can hold the supplied number of elements without growing.
+   *
+   * @param expectedSize the expected number of elements; must not be negative
+   *
+   * @exception IllegalArgumentException if {@code expectedSize} is negative
+   */
+  IntSet(final int expectedSize) {
+    super();
+    if (expectedSize < 0) {
+      throw new IllegalArgumentException("expectedSize: " + expectedSize);
+    }
+    this.table = new int[Math.max(2, Integer.highestOneBit(Math.max(1, expectedSize) * 2 - 1) << 1)];
+    this.keys = new int[Math.max(1, expectedSize)];
+  }
+
+  /**
+   * Adds the supplied {@code int} to this {@link IntSet} if it is not already present.
+   *
+   * @param key a non-negative {@code int}
+   *
+   * @return {@code true} if this {@link IntSet} changed as a result of this invocation
+   *
+   * @exception IllegalArgumentException if {@code key} is negative
+   */
+  final boolean add(final int key) {
+    if (key < 0) {
+      throw new IllegalArgumentException("key: " + key);
+    }
+    final int[] table = this.table;
+    final int mask = table.length - 1;
+    int i = mix(key) & mask;
+    int slot;
+    while ((slot = table[i]) != 0) {
+      if (this.keys[slot - 1] == key) {
+        return false;
+      }
+      i = (i + 1) & mask;
+    }
+    if (this.size == this.keys.length) {
+      this.keys = Arrays.copyOf(this.keys, this.size * 2);
+    }
+    this.keys[this.size++] = key;
+    table[i] = this.size; // position + 1
+    if (this.size * 2 > table.length) {
+      this.rehash(table.length * 2);
+    }
+    return true;
+  }
+
+  /**
+   * Removes all elements from this {@link IntSet}, retaining its capacity.
+   */
+  final void clear() {
+    if (this.size > 0) {
+      Arrays.fill(this.table, 0);
+      this.size = 0;
+    }
+  }
+
+  /**
+   * Returns {@code true} if and only if the supplied {@code int} is present in this {@link IntSet}.
+   *
+   * @param key an {@code int}
+   *
+   * @return {@code true} if and only if the supplied {@code int} is present in this {@link IntSet}
+   */
+  final boolean contains(final int key) {
+    return this.indexOf(key) >= 0;
+  }
+
+  /**
+   * Returns the element at the supplied insertion position.
+   *
+   * @param index an insertion position; must be non-negative and less than the {@linkplain #size() size}
+   *
+   * @return the element at the supplied insertion position
+   *
+   * @exception IndexOutOfBoundsException if {@code index} is out of bounds
+   */
+  final int get(final int index) {
+    return this.keys[Objects.checkIndex(index, this.size)];
+  }
+
+  /**
+   * Returns the insertion position of the supplied {@code int}, or {@code -1} if it is not present.
+   *
+   * @param key an {@code int}
+   *
+   * @return the insertion position of the supplied {@code int}, or {@code -1}
+   */
+  final int indexOf(final int key) {
+    if (key >= 0) {
+      final int[] table = this.table;
+      final int mask = table.length - 1;
+      int i = mix(key) & mask;
+      int slot;
+      while ((slot = table[i]) != 0) {
+        if (this.keys[slot - 1] == key) {
+          return slot - 1;
+        }
+        i = (i + 1) & mask;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link IntSet} has no elements.
+   *
+   * @return {@code true} if and only if this {@link IntSet} has no elements
+   */
+  final boolean isEmpty() {
+    return this.size == 0;
+  }
+
+  /**
+   * Returns the number of elements in this {@link IntSet}.
+   *
+   * @return the number of elements in this {@link IntSet}; never negative
+   */
+  final int size() {
+    return this.size;
+  }
+
+  private final void rehash(final int capacity) {
+    final int[] table = new int[capacity];
+    final int mask = capacity - 1;
+    for (int position = 0; position < this.size; position++) {
+      int i = mix(this.keys[position]) & mask;
+      while (table[i] != 0) {
+        i = (i + 1) & mask;
+      }
+      table[i] = position + 1;
+    }
+    this.table = table;
+  }
+
+  private static final int mix(final int key) {
+    final int h = key * 0x9E3779B9; // Fibonacci hashing; dense ids otherwise cluster
+    return h ^ (h >>> 16);
+  }
+
+}
@@ -0,0 +1,178 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.Objects;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A concurrent pool of canonical instances of immutable values, such as {@link AttributedType}s and {@link
+ * AttributedElement}s, each paired with its precomputed hash code in a {@link Key}.
+ *
+ * <p>{@linkplain #intern(Object) Interning} a value returns the first value {@linkplain Object#equals(Object) equal to}
+ * it that was interned by the same {@link Interner}. Equal values that have been interned are therefore identical,
+ * which deduplicates them in memory and reduces most equality comparisons among them to reference comparisons: the
+ * {@link Object#equals(Object)} methods of records, and of immutable {@link java.util.List}s, test for identity before
+ * comparing components or elements.</p>
+ *
+ * <p>Records do not cache their hash codes, and those of records such as {@link AttributedType} walk their {@link
+ * org.microbean.attributes.Attributes} lists. The {@link #key(Object)} method therefore returns the canonical {@link
+ * Key} for a value instead, whose hash code is computed once, when the value is first interned. Maps keyed by such
+ * {@link Key}s, such as the one used by the {@link Selectables#caching(Selectable, int, Interner)} method, neither
+ * recompute hash codes nor compare values component by component. Looking up a {@link Key} still computes the hash
+ * code of the supplied value once.</p>
+ *
+ * <p>An {@link Interner} holds strong references to the values it pools until it is {@linkplain #clear() cleared}. Its
+ * lifetime should therefore be bounded by that of the values it pools, such as that of a container and the injection
+ * points it resolves.</p>
+ *
+ * @param <T> the type of value
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see Selectables#caching(Selectable, int, Interner)
+ */
+public final class Interner<T> {
+
+  private final ConcurrentHashMap<T, Key<T>> pool;
+
+  /**
+   * Creates a new, empty {@link Interner}.
+   */
+  public Interner() {
+    super();
+    this.pool = new ConcurrentHashMap<>();
+  }
+
+  /**
+   * Removes all values from this {@link Interner}.
+   *
+   * <p>Values and {@link Key}s interned before this method is invoked are not identical to equal values and {@link
+   * Key}s interned after.</p>
+   */
+  public final void clear() {
+    this.pool.clear();
+  }
+
+  /**
+   * Returns the canonical value {@linkplain Object#equals(Object) equal to} the supplied value, making the supplied
+   * value canonical if there is none.
+   *
+   * <p>The supplied value must be immutable, and its {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+   * must be consistent with each other.</p>
+   *
+   * @param t the value to intern; must not be {@code null}
+   *
+   * @return the canonical value equal to the supplied value; never {@code null}
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   *
+   * @see #key(Object)
+   */
+  public final T intern(final T t) {
+    return this.key(t).value();
+  }
+
+  /**
+   * Returns the canonical {@link Key} whose {@linkplain Key#value() value} is {@linkplain Object#equals(Object) equal
+   * to} the supplied value, making the supplied value canonical if there is none.
+   *
+   * <p>The supplied value must be immutable, and its {@link Object#equals(Object)} and {@link Object#hashCode()} methods
+   * must be consistent with each other.</p>
+   *
+   * @param t the value to intern; must not be {@code null}
+   *
+   * @return the canonical {@link Key} for the supplied value; never {@code null}
+   *
+   * @exception NullPointerException if {@code t} is {@code null}
+   */
+  public final Key<T> key(final T t) {
+    final Key<T> k = this.pool.get(t); // fast path: no locking
+    return k == null ? this.pool.computeIfAbsent(t, x -> new Key<>(x, x.hashCode())) : k;
+  }
+
+  /**
+   * Returns the number of canonical values in this {@link Interner}.
+   *
+   * @return the number of canonical values in this {@link Interner}; never negative
+   */
+  public final int size() {
+    return this.pool.size();
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  /**
+   * A canonical value paired with its precomputed {@linkplain Object#hashCode() hash code}.
+   *
+   * <p>Two {@link Key}s are equal if and only if their values are equal. {@link Key}s returned by the same {@link
+   * Interner} for equal values are identical, so comparing them is normally a reference comparison.</p>
+   *
+   * @param <T> the type of value
+   *
+   * @param value the value; must not be {@code null}
+   *
+   * @param hash the value's {@linkplain Object#hashCode() hash code}
+   *
+   * @see Interner#key(Object)
+   */
+  public static final record Key<T>(T value, int hash) {
+
+    /**
+     * Creates a new {@link Key}.
+     *
+     * @param value the value; must not be {@code null}
+     *
+     * @param hash the value's {@linkplain Object#hashCode() hash code}; must be equal to {@code value.hashCode()}
+     *
+     * @exception NullPointerException if {@code value} is {@code null}
+     */
+    public Key {
+      Objects.requireNonNull(value, "value");
+    }
+
+    /**
+     * Returns {@code true} if and only if the supplied {@link Object} is a {@link Key} whose {@linkplain #value() value}
+     * is equal to this {@link Key}'s value.
+     *
+     * @param other an {@link Object}; may be {@code null}
+     *
+     * @return {@code true} if and only if the supplied {@link Object} is a {@link Key} whose {@linkplain #value()
+     * value} is equal to this {@link Key}'s value
+     */
+    @Override // Record
+    public final boolean equals(final Object other) {
+      return
+        other == this ||
+        other instanceof Key<?> k && this.hash == k.hash && this.value.equals(k.value);
+    }
+
+    /**
+     * Returns the precomputed hash code of this {@link Key}'s {@linkplain #value() value}.
+     *
+     * @return the precomputed hash code of this {@link Key}'s value
+     */
+    @Override // Record
+    public final int hashCode() {
+      return this.hash;
+    }
+
+  }
+
+}
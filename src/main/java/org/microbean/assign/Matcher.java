@@ -13,7 +13,10 @@
  */
 package org.microbean.assign;
 
+import java.util.Objects;
+
 import java.util.function.BiPredicate;
+import java.util.function.Predicate;
 
 /**
  * A {@link BiPredicate} with particular semantics associated with its {@link #test(Object, Object) test(Object,
@@ -50,4 +53,31 @@ public interface Matcher<A, B> extends BiPredicate<A, B> {
   @Override // BiPredicate<A, B>
   public boolean test(final A a, final B b);
 
+  /**
+   * Returns a {@link Predicate} whose {@link Predicate#test(Object) test(Object)} method returns the result of invoking
+   * this {@link Matcher}'s {@link #test(Object, Object)} method with the supplied criteria and its argument.
+   *
+   * <p>The returned {@link Predicate} is a <dfn>plan</dfn> for testing many objects against the same criteria.
+   * Implementations may override this method to compute whatever facts about the criteria they need once, rather than
+   * once per object tested. Any such override must return a {@link Predicate} whose answers are the same as those of
+   * the {@link #test(Object, Object)} method.</p>
+   *
+   * <p>The default implementation of this method returns {@code b -> this.test(a, b)}.</p>
+   *
+   * @param a an object serving as a kind of criteria; must not be {@code null}
+   *
+   * @return a {@link Predicate} that tests whether its argument <dfn>matches</dfn> the supplied criteria; never {@code
+   * null}
+   *
+   * @exception NullPointerException if {@code a} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code a} is unsuitable for any reason
+   *
+   * @see #test(Object, Object)
+   */
+  public default Predicate<B> prepare(final A a) {
+    Objects.requireNonNull(a, "a");
+    return b -> this.test(a, b);
+  }
+
 }
@@ -0,0 +1,257 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of qualifiers, encoded as a set of bits indexed by the {@linkplain Qualifiers#id(Attributes)
+ * identifiers} assigned to those qualifiers by a {@link Qualifiers}.
+ *
+ * <p>Sets of qualifiers whose identifiers are all less than {@code 64} are represented by a single {@code long}, so
+ * that, for example, {@linkplain #containsAll(QualifierSet) testing whether one contains another} requires only a
+ * handful of word operations. Larger identifiers are accommodated by an overflow array.</p>
+ *
+ * <p>{@link QualifierSet}s are meaningful only with respect to the {@link Qualifiers} that {@linkplain
+ * Qualifiers#qualifierSet(java.util.Collection) created} them. Comparing {@link QualifierSet}s created by different
+ * {@link Qualifiers} yields undefined results.</p>
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see Qualifiers#qualifierSet(java.util.Collection)
+ */
+public final class QualifierSet {
+
+
+  /*
+   * Static fields.
+   */
+
+
+  /**
+   * An empty {@link QualifierSet}.
+   */
+  public static final QualifierSet EMPTY = new QualifierSet(0L, null);
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  // Bits for identifiers 0 through 63.
+  private final long bits;
+
+  // Bits for identifiers 64 and up, or null if there are none; never has a trailing zero word.
+  private final long[] overflow;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  private QualifierSet(final long bits, final long[] overflow) {
+    super();
+    this.bits = bits;
+    this.overflow = overflow;
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns {@code true} if and only if this {@link QualifierSet} contains the qualifier with the supplied identifier.
+   *
+   * @param id a qualifier identifier
+   *
+   * @return {@code true} if and only if this {@link QualifierSet} contains the qualifier with the supplied identifier
+   */
+  public final boolean contains(final int id) {
+    if (id < 0) {
+      return false;
+    } else if (id < 64) {
+      return (this.bits & (1L << id)) != 0L;
+    }
+    final int word = (id >>> 6) - 1;
+    return this.overflow != null && word < this.overflow.length && (this.overflow[word] & (1L << id)) != 0L;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link QualifierSet} contains every qualifier contained by the supplied
+   * {@link QualifierSet}.
+   *
+   * @param other a {@link QualifierSet}; must not be {@code null}
+   *
+   * @return {@code true} if and only if this {@link QualifierSet} contains every qualifier contained by the supplied
+   * {@link QualifierSet}
+   *
+   * @exception NullPointerException if {@code other} is {@code null}
+   */
+  public final boolean containsAll(final QualifierSet other) {
+    if ((other.bits & ~this.bits) != 0L) {
+      return false;
+    }
+    final long[] otherOverflow = other.overflow;
+    if (otherOverflow == null) {
+      return true;
+    }
+    final long[] overflow = this.overflow;
+    if (overflow == null || overflow.length < otherOverflow.length) {
+      return false; // otherOverflow's last word is non-zero
+    }
+    for (int i = 0; i < otherOverflow.length; i++) {
+      if ((otherOverflow[i] & ~overflow[i]) != 0L) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link QualifierSet} contains at least one qualifier also contained by the
+   * supplied {@link QualifierSet}.
+   *
+   * @param other a {@link QualifierSet}; must not be {@code null}
+   *
+   * @return {@code true} if and only if this {@link QualifierSet} and the supplied {@link QualifierSet} have at least
+   * one qualifier in common
+   *
+   * @exception NullPointerException if {@code other} is {@code null}
+   */
+  public final boolean intersects(final QualifierSet other) {
+    if ((other.bits & this.bits) != 0L) {
+      return true;
+    }
+    final long[] otherOverflow = other.overflow;
+    final long[] overflow = this.overflow;
+    if (otherOverflow == null || overflow == null) {
+      return false;
+    }
+    for (int i = 0; i < Math.min(overflow.length, otherOverflow.length); i++) {
+      if ((otherOverflow[i] & overflow[i]) != 0L) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link QualifierSet} contains no qualifiers.
+   *
+   * @return {@code true} if and only if this {@link QualifierSet} contains no qualifiers
+   */
+  public final boolean isEmpty() {
+    return this.bits == 0L && this.overflow == null;
+  }
+
+  /**
+   * Returns the number of qualifiers this {@link QualifierSet} contains.
+   *
+   * @return the number of qualifiers this {@link QualifierSet} contains; never negative
+   */
+  public final int size() {
+    int size = Long.bitCount(this.bits);
+    if (this.overflow != null) {
+      for (final long word : this.overflow) {
+        size += Long.bitCount(word);
+      }
+    }
+    return size;
+  }
+
+  /**
+   * Returns a hashcode for this {@link QualifierSet}.
+   *
+   * @return a hashcode for this {@link QualifierSet}
+   */
+  @Override // Object
+  public final int hashCode() {
+    return Long.hashCode(this.bits) * 31 + Arrays.hashCode(this.overflow);
+  }
+
+  /**
+   * Returns {@code true} if and only if the supplied {@link Object} is a {@link QualifierSet} containing exactly the
+   * same qualifiers as this {@link QualifierSet}.
+   *
+   * @param other an {@link Object}; may be {@code null}
+   *
+   * @return {@code true} if and only if the supplied {@link Object} is equal to this {@link QualifierSet}
+   */
+  @Override // Object
+  public final boolean equals(final Object other) {
+    if (other == this) {
+      return true;
+    } else if (other != null && other.getClass() == this.getClass()) {
+      final QualifierSet her = (QualifierSet)other;
+      return this.bits == her.bits && Arrays.equals(this.overflow, her.overflow);
+    } else {
+      return false;
+    }
+  }
+
+  /**
+   * Returns a {@link String} representation of this {@link QualifierSet}, listing the identifiers of the qualifiers it
+   * contains.
+   *
+   * @return a non-{@code null} {@link String}
+   */
+  @Override // Object
+  public final String toString() {
+    final StringBuilder sb = new StringBuilder("{");
+    final int limit = 64 * (this.overflow == null ? 1 : this.overflow.length + 1);
+    for (int id = 0; id < limit; id++) {
+      if (this.contains(id)) {
+        if (sb.length() > 1) {
+          sb.append(", ");
+        }
+        sb.append(id);
+      }
+    }
+    return sb.append('}').toString();
+  }
+
+
+  /*
+   * Static methods.
+   */
+
+
+  /**
+   * Returns a {@link QualifierSet} containing the qualifiers whose identifiers are the indices of the set bits in the
+   * supplied words.
+   *
+   * @param words the words, in which bit {@code i % 64} of word {@code i / 64} is set if and only if the qualifier with
+   * identifier {@code i} is contained; must not be {@code null}; not retained
+   *
+   * @return a non-{@code null} {@link QualifierSet}
+   *
+   * @exception NullPointerException if {@code words} is {@code null}
+   */
+  static final QualifierSet of(final long[] words) {
+    int length = words.length;
+    while (length > 0 && words[length - 1] == 0L) {
+      --length;
+    }
+    return switch (length) {
+    case 0 -> EMPTY;
+    case 1 -> new QualifierSet(words[0], null);
+    default -> new QualifierSet(words[0], Arrays.copyOfRange(words, 1, length));
+    };
+  }
+
+}
@@ -14,10 +14,13 @@
 package org.microbean.assign;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 
+import java.util.concurrent.ConcurrentHashMap;
+
 import org.microbean.attributes.Attributes;
 
 /**
@@ -43,6 +46,15 @@ public class Qualifiers {
   private static final List<Attributes> QUALIFIERS = List.of(QUALIFIER);
 
 
+  /*
+   * Instance fields.
+   */
+
+
+  // Normalized qualifier -> dense id
+  private final ConcurrentHashMap<Attributes, Integer> ids;
+
+
   /*
    * Constructors.
    */
@@ -50,9 +62,15 @@ public class Qualifiers {
 
   /**
    * Creates a new {@link Qualifiers}.
+   *
+   * <p>The new {@link Qualifiers} has an empty registry of {@linkplain #id(Attributes) qualifier identifiers}, which
+   * grows as identifiers are assigned.</p>
+   *
+   * @see #id(Attributes)
    */
   public Qualifiers() {
     super();
+    this.ids = new ConcurrentHashMap<>();
   }
 
 
@@ -61,6 +79,38 @@ public class Qualifiers {
    */
 
 
+  /**
+   * Returns the dense, non-negative identifier this {@link Qualifiers} has assigned to the {@linkplain
+   * #normalize(Attributes) normalized form} of the supplied {@link Attributes}, assigning one if necessary.
+   *
+   * <p>Identifiers are assigned in order of first encounter, starting with {@code 0}. {@linkplain
+   * Attributes#equals(Object) Equal} {@link Attributes}s are assigned the same identifier.</p>
+   *
+   * <p>Each {@link Qualifiers} retains every {@link Attributes} to which it assigns an identifier for as long as it is
+   * itself reachable, so the memory it uses grows with the number of distinct qualifiers it encounters and never
+   * shrinks. Qualifiers are normally drawn from the fixed set of annotations present in an application, which keeps
+   * this growth bounded; callers that assign identifiers to arbitrary, unbounded streams of {@link Attributes}s should
+   * periodically discard the {@link Qualifiers} they use, together with any {@link QualifierSet}s it created.</p>
+   *
+   * @param a an {@link Attributes}; must not be {@code null}
+   *
+   * @return a non-negative identifier
+   *
+   * @exception NullPointerException if {@code a} is {@code null}
+   *
+   * @see #qualifierSet(Collection)
+   */
+  public int id(final Attributes a) {
+    final Attributes n = this.normalize(a);
+    final Integer id = this.ids.get(n);
+    if (id != null) {
+      return id;
+    }
+    synchronized (this.ids) { // ids are dense only if registration is serialized
+      return this.ids.computeIfAbsent(n, x -> this.ids.size());
+    }
+  }
+
   /**
    * Returns an {@link Attributes} that is {@linkplain Attributes#equals(Object) equal to} the supplied {@link
    * Attributes}.
@@ -100,11 +150,11 @@ public class Qualifiers {
     case 0 -> List.of();
     case 1 -> list.equals(this.qualifiers()) ? this.qualifiers() : List.copyOf(list);
     default -> {
-      final List<Attributes> l = new ArrayList<>(list.size());
-      for (final Attributes a : list) {
-        l.add(this.normalize(a));
+      final Attributes[] as = list.toArray(new Attributes[0]);
+      for (int i = 0; i < as.length; i++) {
+        as[i] = this.normalize(as[i]);
       }
-      yield Collections.unmodifiableList(l);
+      yield List.of(as); // unlike Collections.unmodifiableList, List.copyOf will not copy this
     }
     };
   }
@@ -144,6 +194,43 @@ public class Qualifiers {
     return QUALIFIERS;
   }
 
+  /**
+   * Returns a {@link QualifierSet} representing those {@link Attributes} in the supplied {@link Collection} that
+   * {@linkplain #qualifier(Attributes) are qualifiers}.
+   *
+   * <p>The returned {@link QualifierSet} is meaningful only with respect to this {@link Qualifiers}, whose {@linkplain
+   * #id(Attributes) identifiers} it contains.</p>
+   *
+   * @param c a {@link Collection} of {@link Attributes}s; must not be {@code null}
+   *
+   * @return a non-{@code null} {@link QualifierSet}
+   *
+   * @exception NullPointerException if {@code c} is {@code null}
+   *
+   * @see #id(Attributes)
+   *
+   * @see #qualifiers(Collection)
+   *
+   * @see QualifierSet#containsAll(QualifierSet)
+   */
+  public QualifierSet qualifierSet(final Collection<? extends Attributes> c) {
+    if (c.isEmpty()) {
+      return QualifierSet.EMPTY;
+    }
+    long[] words = new long[1];
+    for (final Attributes a : c) {
+      if (this.qualifier(a)) {
+        final int id = this.id(a);
+        final int word = id >>> 6;
+        if (word >= words.length) {
+          words = Arrays.copyOf(words, Math.max(word + 1, words.length * 2));
+        }
+        words[word] |= 1L << id;
+      }
+    }
+    return QualifierSet.of(words);
+  }
+
   /**
    * Returns an unmodifiable {@link List} consisting only of those {@link Attributes} in the supplied {@link
    * Collection} that {@linkplain #qualifier(Attributes) are qualifiers}.
@@ -13,6 +13,8 @@
  */
 package org.microbean.assign;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -49,4 +51,72 @@ public interface Selectable<C, E> {
   // C and not Predicate because equality semantics for Predicate are not well-defined (caching again)
   public List<E> select(final C criteria);
 
+  /**
+   * <em>Selects</em> and returns an immutable {@link List} representing a sublist of no more than {@code limit} of this
+   * {@link Selectable}'s elements, as mediated by the supplied criteria.
+   *
+   * <p>The returned {@link List} must be {@linkplain List#equals(Object) equal to} the first {@code limit} elements (or
+   * all of the elements, if there are fewer) of the {@link List} that the {@link #select(Object)} method would return if
+   * it were invoked with the same criteria. For example, a caller that needs only to know whether the supplied criteria
+   * select exactly one element may supply a {@code limit} of {@code 2}.</p>
+   *
+   * <p>The default implementation of this method invokes the {@link #select(Object)} method and truncates its return
+   * value. Implementations may override it to stop selecting as soon as {@code limit} elements have been selected.</p>
+   *
+   * <p>Implementations of this method must not return {@code null}.</p>
+   *
+   * @param criteria the criteria to use; may be {@code null} to indicate no particular criteria should be used during
+   * selection
+   *
+   * @param limit the maximum number of elements to select; must not be negative
+   *
+   * @return an immutable sublist of no more than {@code limit} of this {@link Selectable}'s elements effectively
+   * selected by the supplied {@code criteria}; never {@code null}
+   *
+   * @exception IllegalArgumentException if {@code limit} is negative
+   *
+   * @see #select(Object)
+   */
+  public default List<E> select(final C criteria, final int limit) {
+    if (limit < 0) {
+      throw new IllegalArgumentException("limit: " + limit);
+    }
+    final List<E> selection = this.select(criteria);
+    return selection.size() <= limit ? selection : List.copyOf(selection.subList(0, limit));
+  }
+
+  /**
+   * <em>Selects</em> and returns an immutable {@link List} of immutable sublists of this {@link Selectable}'s elements,
+   * one for each of the supplied criteria, in order.
+   *
+   * <p>The element of the returned {@link List} at a given index must be {@linkplain List#equals(Object) equal to} the
+   * value that the {@link #select(Object)} method would return if it were invoked with the criteria at the same index in
+   * the supplied {@link List}.</p>
+   *
+   * <p>The default implementation of this method invokes the {@link #select(Object)} method once for each of the
+   * supplied criteria. Implementations may override it to select for many criteria at once more efficiently.</p>
+   *
+   * <p>Implementations of this method must not return {@code null}.</p>
+   *
+   * @param criteria a {@link List} of criteria to use, any of which may be {@code null}; must not be {@code null}
+   *
+   * @return an immutable {@link List} whose size is equal to that of the supplied {@link List}, and whose elements are
+   * immutable sublists of this {@link Selectable}'s elements effectively selected by the corresponding criteria; never
+   * {@code null}
+   *
+   * @exception NullPointerException if {@code criteria} is {@code null}
+   *
+   * @see #select(Object)
+   */
+  public default List<List<E>> selectAll(final List<? extends C> criteria) {
+    if (criteria.isEmpty()) {
+      return List.of();
+    }
+    final List<List<E>> selections = new ArrayList<>(criteria.size());
+    for (final C c : criteria) {
+      selections.add(this.select(c));
+    }
+    return Collections.unmodifiableList(selections);
+  }
+
 }
@@ -13,12 +13,22 @@
  */
 package org.microbean.assign;
 
+import java.lang.ref.SoftReference;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 
 import java.util.function.BiFunction;
 import java.util.function.BiPredicate;
@@ -40,7 +50,7 @@ public final class Selectables {
   /**
    * Returns a {@link Selectable} that caches its results.
    *
-   * <p>The cache is unbounded.</p>
+   * <p>The cache is unbounded. {@linkplain #caching(Selectable, int) Bounded caching} is also available.</p>
    *
    * @param <C> the criteria type
    *
@@ -53,12 +63,128 @@ public final class Selectables {
    * @exception NullPointerException if {@code selectable} is {@code null}
    *
    * @see #caching(Selectable, BiFunction)
+   *
+   * @see #caching(Selectable, int)
    */
   public static <C, E> Selectable<C, E> caching(final Selectable<C, E> selectable) {
     final Map<C, List<E>> selectionCache = new ConcurrentHashMap<>();
     return Selectables.<C, E>caching(selectable, selectionCache::computeIfAbsent);
   }
 
+  /**
+   * Returns a {@link Selectable} that caches its results in a bounded cache that evicts its least recently used
+   * entries.
+   *
+   * <p>Selections for {@code null} criteria are not cached.</p>
+   *
+   * @param <C> the criteria type
+   *
+   * @param <E> the element type
+   *
+   * @param selectable a {@link Selectable}; must not be {@code null}
+   *
+   * @param maximumSize the (approximate) maximum number of selections to cache; must be positive
+   *
+   * @return a non-{@code null} {@link Selectable}
+   *
+   * @exception NullPointerException if {@code selectable} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code maximumSize} is not positive
+   *
+   * @see #caching(Selectable, int, boolean)
+   *
+   * @see #caching(Selectable, int, Interner)
+   */
+  public static <C, E> Selectable<C, E> caching(final Selectable<C, E> selectable, final int maximumSize) {
+    return caching(selectable, maximumSize, false);
+  }
+
+  /**
+   * Returns a {@link Selectable} that caches its results in a bounded cache that evicts its least recently used
+   * entries, and that optionally holds them only {@linkplain SoftReference softly}.
+   *
+   * <p>If {@code soft} is {@code true}, the garbage collector may additionally reclaim cached selections in response to
+   * memory demand; a reclaimed selection is simply recomputed the next time it is needed. Criteria are always held
+   * strongly, since criteria are typically created anew for each selection and are compared by equality, so holding
+   * them weakly would defeat the cache.</p>
+   *
+   * <p>Selections for {@code null} criteria are not cached.</p>
+   *
+   * @param <C> the criteria type
+   *
+   * @param <E> the element type
+   *
+   * @param selectable a {@link Selectable}; must not be {@code null}
+   *
+   * @param maximumSize the (approximate) maximum number of selections to cache; must be positive
+   *
+   * @param soft whether cached selections should be held only {@linkplain SoftReference softly}
+   *
+   * @return a non-{@code null} {@link Selectable}
+   *
+   * @exception NullPointerException if {@code selectable} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code maximumSize} is not positive
+   */
+  public static <C, E> Selectable<C, E> caching(final Selectable<C, E> selectable, final int maximumSize, final boolean soft) {
+    Objects.requireNonNull(selectable, "selectable");
+    if (soft) {
+      final BoundedCache<C, SoftReference<List<E>>> cache = new BoundedCache<>(maximumSize);
+      return c -> {
+        if (c == null) {
+          return selectable.select(null);
+        }
+        // Dereferenced under the cache's lock; a cleared reference is removed and counted as a miss
+        List<E> selection = cache.get(c, SoftReference::get);
+        if (selection == null) {
+          selection = selectable.select(c);
+          cache.put(c, new SoftReference<>(selection));
+        }
+        return selection;
+      };
+    }
+    final BoundedCache<C, List<E>> cache = new BoundedCache<>(maximumSize);
+    return c -> c == null ? selectable.select(null) : cache.computeIfAbsent(c, selectable::select);
+  }
+
+  /**
+   * Returns a {@link Selectable} that caches its results in a bounded cache that evicts its least recently used
+   * entries, and that is keyed by the {@linkplain Interner#key(Object) canonical <code>Key</code>s} the supplied {@link
+   * Interner} returns for its criteria.
+   *
+   * <p>Each {@link Interner.Key} carries its criteria's hash code, computed once, when the criteria are first interned,
+   * and equal criteria share a single {@link Interner.Key}. Cache lookups therefore neither recompute the hash codes of
+   * criteria such as {@link AttributedType}s, which walk their attribute lists, nor compare criteria component by
+   * component. The criteria supplied to the {@link Selectable#select(Object)} method of the returned {@link Selectable}
+   * are interned by the supplied {@link Interner}.</p>
+   *
+   * <p>Selections for {@code null} criteria are not cached.</p>
+   *
+   * @param <C> the criteria type
+   *
+   * @param <E> the element type
+   *
+   * @param selectable a {@link Selectable}; must not be {@code null}
+   *
+   * @param maximumSize the (approximate) maximum number of selections to cache; must be positive
+   *
+   * @param interner an {@link Interner}; must not be {@code null}
+   *
+   * @return a non-{@code null} {@link Selectable}
+   *
+   * @exception NullPointerException if {@code selectable} or {@code interner} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code maximumSize} is not positive
+   *
+   * @see Interner#key(Object)
+   */
+  public static <C, E> Selectable<C, E> caching(final Selectable<C, E> selectable, final int maximumSize, final Interner<C> interner) {
+    Objects.requireNonNull(selectable, "selectable");
+    Objects.requireNonNull(interner, "interner");
+    final BoundedCache<Interner.Key<C>, List<E>> cache = new BoundedCache<>(maximumSize);
+    return c -> c == null ? selectable.select(null) : cache.computeIfAbsent(interner.key(c), k -> selectable.select(k.value()));
+  }
+
   /**
    * Returns a {@link Selectable} that caches its results.
    *
@@ -117,6 +243,9 @@ public final class Selectables {
    *
    * <p>No validation of these semantics of the selector is performed.</p>
    *
+   * <p>The {@link Selectable#selectAll(List)} method of the returned {@link Selectable} makes a single pass over the
+   * supplied {@link Collection}, applying the selector to each element and each of the criteria in turn.</p>
+   *
    * @param <C> the criteria type
    *
    * @param <E> the element type
@@ -129,12 +258,308 @@ public final class Selectables {
    *
    * @exception NullPointerException if either {@code collection} or {@code p} is {@code null}
    */
-  @SuppressWarnings("unchecked")
   public static <C, E> Selectable<C, E> filtering(final Collection<? extends E> collection,
                                                   final BiPredicate<? super E, ? super C> p) {
     Objects.requireNonNull(p, "p");
-    return collection.isEmpty() ? empty() : c -> (List<E>)collection.stream().filter(e -> p.test(e, c)).toList();
+    return collection.isEmpty() ? empty() : new Filtering<>(collection, p);
+  }
+
+  /**
+   * Returns a {@link Selectable} using the supplied {@link Collection} as its elements, and the supplied {@link
+   * BiPredicate} as its <em>selector</em>, that applies the selector to large numbers of elements in parallel using the
+   * supplied {@link ForkJoinPool}.
+   *
+   * <p>When the number of elements is no greater than the supplied {@code threshold}, selection proceeds sequentially
+   * in the calling thread. Otherwise the elements are recursively split into runs of no more than {@code threshold}
+   * elements, and the selector is applied to each run as a separate {@link ForkJoinTask}. In either case the returned
+   * {@link List}s preserve the encounter order of the supplied {@link Collection}.</p>
+   *
+   * <p>The supplied {@link Collection} is copied once, eagerly, by this method. The selector must be safe for
+   * concurrent use by multiple threads, and is otherwise subject to the same requirements as those described by the
+   * {@link #filtering(Collection, BiPredicate)} method.</p>
+   *
+   * @param <C> the criteria type
+   *
+   * @param <E> the element type
+   *
+   * @param collection a {@link Collection} of elements from which sublists may be selected; must not be {@code null}
+   *
+   * @param p the selector; must not be {@code null}
+   *
+   * @param pool the {@link ForkJoinPool} in which to apply the selector in parallel; must not be {@code null}
+   *
+   * @param threshold the maximum number of elements to which the selector will be applied sequentially by a single
+   * task; must be positive
+   *
+   * @return a {@link Selectable}; never {@code null}
+   *
+   * @exception NullPointerException if {@code collection}, {@code p} or {@code pool} is {@code null}
+   *
+   * @exception IllegalArgumentException if {@code threshold} is not positive
+   *
+   * @see #filtering(Collection, BiPredicate)
+   */
+  @SuppressWarnings("unchecked")
+  public static <C, E> Selectable<C, E> filtering(final Collection<? extends E> collection,
+                                                  final BiPredicate<? super E, ? super C> p,
+                                                  final ForkJoinPool pool,
+                                                  final int threshold) {
+    Objects.requireNonNull(p, "p");
+    Objects.requireNonNull(pool, "pool");
+    if (threshold <= 0) {
+      throw new IllegalArgumentException("threshold: " + threshold);
+    }
+    final Object[] elements = collection.toArray();
+    if (elements.length == 0) {
+      return empty();
+    }
+    return c -> {
+      final boolean[] selected = new boolean[elements.length];
+      final Filter<C> f = new Filter<>(elements, (BiPredicate<Object, ? super C>)p, c, selected, 0, elements.length, threshold);
+      if (elements.length <= threshold) {
+        f.compute();
+      } else {
+        pool.invoke(f);
+      }
+      final List<E> selection = new ArrayList<>();
+      for (int i = 0; i < elements.length; i++) {
+        if (selected[i]) {
+          selection.add((E)elements[i]);
+        }
+      }
+      return selection.isEmpty() ? List.of() : Collections.unmodifiableList(selection);
+    };
+  }
+
+  /**
+   * Returns a {@link Selectable} using the supplied {@link Collection} as its elements, and the supplied {@link
+   * BiPredicate} as its <em>selector</em>, that avoids testing elements that cannot possibly be selected by
+   * pre-bucketing them under <dfn>keys</dfn>.
+   *
+   * <p>Each element is placed into one bucket for each of the keys supplied for it by the supplied {@code elementKeys}
+   * {@link Function}. When criteria are supplied to the returned {@link Selectable}'s {@link Selectable#select(Object)}
+   * method, the supplied {@code criteriaKey} {@link Function} is applied to them to yield a key, and the selector is
+   * applied only to the elements in the bucket for that key, in encounter order. If the key is {@code null}, or if the
+   * criteria are {@code null}, the selector is applied to all elements, as with the {@link #filtering(Collection,
+   * BiPredicate)} method.</p>
+   *
+   * <p>It follows that the selector must never select an element for criteria unless the key for those criteria is one
+   * of the element's keys. No validation of this requirement is performed. For example, when the elements are typed,
+   * and the selector selects those whose types are assignable to a type found in the criteria, suitable keys for an
+   * element are the {@linkplain Types#erasedName(javax.lang.model.type.TypeMirror) erased names} of its type's
+   * {@linkplain Types#supertypes(javax.lang.model.type.TypeMirror) supertypes}, and a suitable key for criteria is the
+   * erased name of the type found in them.</p>
+   *
+   * <p>The supplied {@link Collection} is copied and bucketed once, eagerly, by this method. The selector is otherwise
+   * subject to the same requirements as those described by the {@link #filtering(Collection, BiPredicate)} method.</p>
+   *
+   * @param <C> the criteria type
+   *
+   * @param <E> the element type
+   *
+   * @param <K> the key type
+   *
+   * @param collection a {@link Collection} of elements from which sublists may be selected; must not be {@code null}
+   *
+   * @param elementKeys a {@link Function} returning a non-{@code null} {@link Collection} of keys for a given element;
+   * must not be {@code null}
+   *
+   * @param criteriaKey a {@link Function} returning a key, or {@code null}, for given non-{@code null} criteria; must not
+   * be {@code null}
+   *
+   * @param p the selector; must not be {@code null}
+   *
+   * @return a {@link Selectable}; never {@code null}
+   *
+   * @exception NullPointerException if any argument is {@code null}, or if {@code elementKeys} returns {@code null}
+   *
+   * @see #filtering(Collection, BiPredicate)
+   */
+  public static <C, E, K> Selectable<C, E> indexing(final Collection<? extends E> collection,
+                                                    final Function<? super E, ? extends Collection<? extends K>> elementKeys,
+                                                    final Function<? super C, ? extends K> criteriaKey,
+                                                    final BiPredicate<? super E, ? super C> p) {
+    Objects.requireNonNull(criteriaKey, "criteriaKey");
+    Objects.requireNonNull(p, "p");
+    if (collection.isEmpty()) {
+      return empty();
+    }
+    final List<E> all = new ArrayList<>(collection);
+    final Map<K, List<E>> buckets = new HashMap<>();
+    for (final E e : all) {
+      final Collection<? extends K> keys = elementKeys.apply(e);
+      for (final K k : keys instanceof Set ? keys : new HashSet<>(keys)) { // an element goes into a bucket only once
+        buckets.computeIfAbsent(k, x -> new ArrayList<>()).add(e);
+      }
+    }
+    return new Indexing<>(all, buckets, criteriaKey, p);
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  // The Selectable returned by filtering(Collection, BiPredicate).
+  private static final class Filtering<C, E> implements Selectable<C, E> {
+
+    private final Collection<? extends E> collection;
+
+    private final BiPredicate<? super E, ? super C> p;
+
+    private Filtering(final Collection<? extends E> collection, final BiPredicate<? super E, ? super C> p) {
+      super();
+      this.collection = collection;
+      this.p = p;
+    }
+
+    @Override // Selectable<C, E>
+    @SuppressWarnings("unchecked")
+    public final List<E> select(final C criteria) {
+      return (List<E>)this.collection.stream().filter(e -> this.p.test(e, criteria)).toList();
+    }
+
+    @Override // Selectable<C, E>
+    @SuppressWarnings("unchecked")
+    public final List<E> select(final C criteria, final int limit) {
+      if (limit < 0) {
+        throw new IllegalArgumentException("limit: " + limit);
+      }
+      return (List<E>)this.collection.stream().filter(e -> this.p.test(e, criteria)).limit(limit).toList();
+    }
+
+    @Override // Selectable<C, E>
+    public final List<List<E>> selectAll(final List<? extends C> criteria) {
+      final int size = criteria.size();
+      switch (size) {
+      case 0:
+        return List.of();
+      case 1:
+        return List.of(this.select(criteria.get(0)));
+      default:
+        break;
+      }
+      final Object[] cs = criteria.toArray();
+      final List<List<E>> selections = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        selections.add(new ArrayList<>());
+      }
+      for (final E e : this.collection) {
+        for (int i = 0; i < size; i++) {
+          @SuppressWarnings("unchecked")
+          final C c = (C)cs[i];
+          if (this.p.test(e, c)) {
+            selections.get(i).add(e);
+          }
+        }
+      }
+      for (int i = 0; i < size; i++) {
+        final List<E> selection = selections.get(i);
+        selections.set(i, selection.isEmpty() ? List.of() : Collections.unmodifiableList(selection));
+      }
+      return Collections.unmodifiableList(selections);
+    }
+
+  }
+
+  // The Selectable returned by indexing(Collection, Function, Function, BiPredicate).
+  private static final class Indexing<C, E, K> implements Selectable<C, E> {
+
+    private final List<E> all;
+
+    private final Map<K, List<E>> buckets;
+
+    private final Function<? super C, ? extends K> criteriaKey;
+
+    private final BiPredicate<? super E, ? super C> p;
+
+    private Indexing(final List<E> all,
+                     final Map<K, List<E>> buckets,
+                     final Function<? super C, ? extends K> criteriaKey,
+                     final BiPredicate<? super E, ? super C> p) {
+      super();
+      this.all = all;
+      this.buckets = buckets;
+      this.criteriaKey = criteriaKey;
+      this.p = p;
+    }
+
+    @Override // Selectable<C, E>
+    public final List<E> select(final C criteria) {
+      return this.select(criteria, Integer.MAX_VALUE);
+    }
+
+    @Override // Selectable<C, E>
+    public final List<E> select(final C criteria, final int limit) {
+      if (limit < 0) {
+        throw new IllegalArgumentException("limit: " + limit);
+      }
+      final K k = criteria == null ? null : this.criteriaKey.apply(criteria);
+      final List<E> candidates = k == null ? this.all : this.buckets.getOrDefault(k, List.of());
+      final List<E> selection = new ArrayList<>(Math.min(limit, candidates.size()));
+      for (final E e : candidates) {
+        if (selection.size() == limit) {
+          break;
+        }
+        if (this.p.test(e, criteria)) {
+          selection.add(e);
+        }
+      }
+      return selection.isEmpty() ? List.of() : Collections.unmodifiableList(selection);
+    }
+
+  }
+
+  // Applies a selector to a run of elements, recording which of them are selected.
+  private static final class Filter<C> extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Object[] elements;
+
+    private final transient BiPredicate<Object, ? super C> p;
+
+    private final transient C criteria;
+
+    private final boolean[] selected;
+
+    private final int start;
+
+    private final int end; // exclusive
+
+    private final int threshold;
+
+    private Filter(final Object[] elements,
+                   final BiPredicate<Object, ? super C> p,
+                   final C criteria,
+                   final boolean[] selected,
+                   final int start,
+                   final int end,
+                   final int threshold) {
+      super();
+      this.elements = elements;
+      this.p = p;
+      this.criteria = criteria;
+      this.selected = selected;
+      this.start = start;
+      this.end = end;
+      this.threshold = threshold;
+    }
+
+    @Override // RecursiveAction
+    protected final void compute() {
+      if (this.end - this.start <= this.threshold) {
+        for (int i = this.start; i < this.end; i++) {
+          this.selected[i] = this.p.test(this.elements[i], this.criteria); // each task writes a disjoint range
+        }
+      } else {
+        final int middle = (this.start + this.end) >>> 1;
+        invokeAll(new Filter<>(this.elements, this.p, this.criteria, this.selected, this.start, middle, this.threshold),
+                  new Filter<>(this.elements, this.p, this.criteria, this.selected, middle, this.end, this.threshold));
+      }
+    }
+
   }
 
-  
 }
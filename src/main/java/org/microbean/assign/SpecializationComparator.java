@@ -13,7 +13,12 @@
  */
 package org.microbean.assign;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 
 import javax.lang.model.type.TypeMirror;
 
@@ -35,6 +40,9 @@ public final class SpecializationComparator implements Comparator<TypeMirror> {
 
   private final Domain domain;
 
+  // May be null.
+  private final HierarchyIndex index;
+
   /**
    * Creates a new {@link SpecializationComparator}.
    *
@@ -43,8 +51,24 @@ public final class SpecializationComparator implements Comparator<TypeMirror> {
    * @exception NullPointerException if {@code domain} is {@code null}
    */
   public SpecializationComparator(final Domain domain) {
+    this(domain, null);
+  }
+
+  /**
+   * Creates a new {@link SpecializationComparator} that answers subtype questions about {@linkplain
+   * HierarchyIndex#indexed(TypeMirror) indexed types} using the supplied {@link HierarchyIndex} instead of the supplied
+   * {@link Domain}.
+   *
+   * @param domain a {@link Domain}; must not be {@code null}
+   *
+   * @param index a {@link HierarchyIndex} built using the supplied {@link Domain}; may be {@code null}
+   *
+   * @exception NullPointerException if {@code domain} is {@code null}
+   */
+  public SpecializationComparator(final Domain domain, final HierarchyIndex index) {
     super();
     this.domain = requireNonNull(domain, "domain");
+    this.index = index;
   }
 
   /**
@@ -85,7 +109,15 @@ public final class SpecializationComparator implements Comparator<TypeMirror> {
       return 1; // nulls right
     } else if (s == null) {
       return -1; // nulls right
-    } else if (domain.sameType(t, s)) {
+    } else if (this.index != null) {
+      final int tSubS = this.index.test(t, s);
+      if (tSubS >= 0) {
+        // Both are indexed; mutual subtypes are the same type
+        final int sSubT = this.index.test(s, t);
+        return tSubS == sSubT ? 0 : tSubS == 1 ? -1 : 1;
+      }
+    }
+    if (domain.sameType(t, s)) {
       return 0;
     } else if (domain.subtype(t, s)) {
       // t is a subtype of s; s is a proper supertype of t
@@ -98,4 +130,69 @@ public final class SpecializationComparator implements Comparator<TypeMirror> {
     }
   }
 
+  /**
+   * Returns a {@link Comparator} that behaves exactly like this {@link SpecializationComparator}, but that consults a
+   * precomputed matrix of the subtype relation among the supplied {@link TypeMirror}s instead of the {@link Domain}
+   * when comparing any two of them.
+   *
+   * <p>The pairwise subtype relation among the supplied {@link TypeMirror}s is computed once, eagerly, by this method,
+   * at a cost of at most <var>n</var>(<var>n</var> - 1) invocations of {@link Domain#subtype(TypeMirror, TypeMirror)}
+   * for <var>n</var> distinct {@link TypeMirror}s. Thereafter, comparing any two of them costs two bit lookups,
+   * regardless of the sorting algorithm that uses the returned {@link Comparator}. This is useful when the supplied
+   * {@link TypeMirror}s will be compared with one another many times, as when they are being sorted.</p>
+   *
+   * <p>{@link TypeMirror}s are located in the matrix by identity. Comparisons involving a {@link TypeMirror} that was
+   * not supplied to this method are delegated to this {@link SpecializationComparator}.</p>
+   *
+   * <p>Two supplied {@link TypeMirror}s each of which is a subtype of the other are considered to be {@linkplain
+   * Domain#sameType(TypeMirror, TypeMirror) the same type}, and the returned {@link Comparator} will return {@code 0}
+   * when comparing them.</p>
+   *
+   * @param ts a {@link Collection} of {@link TypeMirror}s; must not be {@code null} and must not contain {@code null}
+   * elements
+   *
+   * @return a non-{@code null} {@link Comparator}
+   *
+   * @exception NullPointerException if {@code ts} is {@code null} or contains {@code null} elements
+   *
+   * @see #compare(TypeMirror, TypeMirror)
+   */
+  public final Comparator<TypeMirror> precompute(final Collection<? extends TypeMirror> ts) {
+    final Map<TypeMirror, Integer> indices = new IdentityHashMap<>(ts.size());
+    final List<TypeMirror> types = new ArrayList<>(ts.size());
+    for (final TypeMirror t : ts) {
+      if (indices.putIfAbsent(requireNonNull(t, "t"), types.size()) == null) {
+        types.add(t);
+      }
+    }
+    final int size = types.size();
+    // subtypes.get(i, j) is true if and only if types.get(i) is a subtype of types.get(j)
+    final BitMatrix subtypes = new BitMatrix(size, size);
+    for (int i = 0; i < size; i++) {
+      for (int j = 0; j < size; j++) {
+        if (i != j && this.subtype(types.get(i), types.get(j))) {
+          subtypes.set(i, j);
+        }
+      }
+    }
+    return (t, s) -> {
+      final Integer ti = t == null ? null : indices.get(t);
+      final Integer si = ti == null || s == null ? null : indices.get(s);
+      if (si == null) {
+        return this.compare(t, s);
+      }
+      final int i = ti;
+      final int j = si;
+      if (i == j) {
+        return 0;
+      }
+      final boolean tSubS = subtypes.get(i, j);
+      return tSubS == subtypes.get(j, i) ? 0 : tSubS ? -1 : 1;
+    };
+  }
+
+  private final boolean subtype(final TypeMirror t, final TypeMirror s) {
+    return this.index == null ? this.domain.subtype(t, s) : this.index.subtype(t, s);
+  }
+
 }
@@ -13,12 +13,16 @@
  */
 package org.microbean.assign;
 
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.ListIterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Spliterator;
+import java.util.Spliterators;
 
 import java.util.function.Consumer;
 import java.util.function.IntFunction;
@@ -26,6 +30,7 @@ import java.util.function.Predicate;
 import java.util.function.UnaryOperator;
 
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.lang.model.type.TypeMirror;
 
@@ -33,41 +38,87 @@ import javax.lang.model.type.TypeMirror;
  * An immutable {@link List} of {@link TypeMirror}s sorted in a specific way, intended to store the {@linkplain
  * Types#supertypes(TypeMirror) supertypes} of a {@link TypeMirror}.
  *
+ * <p>A {@link SupertypeList} is backed by a single array. Its {@linkplain #subList(int, int) sublists}, and the
+ * {@linkplain #nonInterfaceTypes() non-interface} and {@linkplain #interfaceTypes() interface} portions of it, are
+ * views of that array, not copies. Its {@linkplain #hashCode() hashcode} is computed once, on construction.</p>
+ *
  * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
  *
  * @see Types#supertypes(TypeMirror)
  */
 public final class SupertypeList implements List<TypeMirror> {
 
+  // The number of lookups by erased name after which an index is built.
+  private static final int INDEX_THRESHOLD = 8;
+
   private static final SupertypeList EMPTY_LIST = new SupertypeList();
 
+  private final TypeMirror[] types;
+
+  // Erased name identifiers parallel to types, or null.
+  private final int[] ids;
+
+  // The ErasedNames that assigned ids, or null if ids is null.
+  private final ErasedNames erasedNames;
+
+  // The positions of the direct interface supertypes of the interface at position i are parents[parentStart[i]]
+  // (inclusive) through parents[parentStart[i + 1]] (exclusive). Both are null if the graph was not recorded.
+  private final int[] parentStart;
+
+  private final int[] parents;
+
+  // Erased name identifier -> position; built lazily from ids.
+  private volatile IntSet index;
+
+  // The number of lookups by erased name made so far; updated racily, which at worst delays building the index.
+  private int lookups;
+
   private final int interfaceIndex;
 
-  private final List<TypeMirror> sortedSupertypes;
+  private final int hashCode;
+
+  // An unmodifiable, zero-copy List view of types.
+  private final List<TypeMirror> view;
 
   private SupertypeList() {
-    this(List.of(), -1);
+    this(new TypeMirror[0], null, null, -1);
   }
 
-  SupertypeList(final List<? extends TypeMirror> sortedSupertypes, final int interfaceIndex) {
+  // Does not copy its arguments, which must not be modified afterwards. ids, if non-null, must be the identifiers,
+  // assigned by erasedNames, of the (distinct) erased names of the types in sortedSupertypes.
+  SupertypeList(final TypeMirror[] sortedSupertypes, final int[] ids, final ErasedNames erasedNames, final int interfaceIndex) {
+    this(sortedSupertypes, ids, erasedNames, interfaceIndex, null, null);
+  }
+
+  // Does not copy its arguments, which must not be modified afterwards. parentStart and parents, if non-null, record the
+  // graph of direct supertype relationships among the interface types in sortedSupertypes; ids must then be non-null.
+  SupertypeList(final TypeMirror[] sortedSupertypes,
+                final int[] ids,
+                final ErasedNames erasedNames,
+                final int interfaceIndex,
+                final int[] parentStart,
+                final int[] parents) {
     super();
-    if (sortedSupertypes.isEmpty()) {
-      if (interfaceIndex >= 0) {
-        throw new IllegalArgumentException("sortedSupertypes: " + sortedSupertypes + "; interfaceIndex: " + interfaceIndex);
-      }
-      this.sortedSupertypes = List.of();
-      this.interfaceIndex = interfaceIndex;
-    } else {
-      switch (sortedSupertypes) {
-      case SupertypeList sl:
-        this.sortedSupertypes = sl.sortedSupertypes;
-        this.interfaceIndex = sl.interfaceIndex;
-        break;
-      default:
-        this.sortedSupertypes = List.copyOf(sortedSupertypes);
-        this.interfaceIndex = interfaceIndex;
-      }
+    if (parentStart != null && (ids == null || parents == null || parentStart.length != sortedSupertypes.length + 1)) {
+      throw new IllegalArgumentException("parentStart: " + Arrays.toString(parentStart));
     }
+    if (ids != null && (ids.length != sortedSupertypes.length || erasedNames == null)) {
+      throw new IllegalArgumentException("ids.length: " + ids.length + "; sortedSupertypes.length: " + sortedSupertypes.length);
+    }
+    if (interfaceIndex >= sortedSupertypes.length) {
+      throw new IllegalArgumentException("sortedSupertypes: " + Arrays.toString(sortedSupertypes) + "; interfaceIndex: " + interfaceIndex);
+    }
+    for (final TypeMirror t : sortedSupertypes) {
+      Objects.requireNonNull(t, "t");
+    }
+    this.types = sortedSupertypes;
+    this.ids = ids;
+    this.erasedNames = ids == null ? null : erasedNames;
+    this.parentStart = parentStart;
+    this.parents = parentStart == null ? null : parents;
+    this.interfaceIndex = interfaceIndex;
+    this.hashCode = Arrays.hashCode(sortedSupertypes); // List#hashCode() contract
+    this.view = Collections.unmodifiableList(Arrays.asList(sortedSupertypes));
   }
 
   @Override // List<TypeMirror>
@@ -107,37 +158,116 @@ public final class SupertypeList implements List<TypeMirror> {
 
   @Override // List<TypeMirror>
   public final boolean contains(final Object o) {
-    return this.sortedSupertypes.contains(o);
+    return this.indexOf(o) >= 0;
   }
 
   @Override // List<TypeMirror>
   public final boolean containsAll(final Collection<?> c) {
-    return this.sortedSupertypes.containsAll(c);
+    for (final Object o : c) {
+      if (this.indexOf(o) < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns {@code true} if and only if this {@link SupertypeList} contains a type whose {@linkplain
+   * Types#erasedName(TypeMirror) erased name} is equal to the supplied erased name.
+   *
+   * <p>Once a {@link SupertypeList} has been queried in this way a small number of times, it builds an index so that
+   * subsequent such queries take constant time.</p>
+   *
+   * @param erasedName an erased name; must not be {@code null}
+   *
+   * @return {@code true} if and only if this {@link SupertypeList} contains a type whose erased name is equal to the
+   * supplied erased name
+   *
+   * @exception NullPointerException if {@code erasedName} is {@code null}
+   *
+   * @see #indexOfErasedName(String)
+   */
+  public final boolean containsErasedName(final String erasedName) {
+    return this.indexOfErasedName(erasedName) >= 0;
   }
 
   @Override // List<TypeMirror>
   public final boolean equals(final Object other) {
-    return this.sortedSupertypes.equals(other);
+    if (other == this) {
+      return true;
+    } else if (other instanceof SupertypeList sl) {
+      return this.hashCode == sl.hashCode && Arrays.equals(this.types, sl.types);
+    } else {
+      return this.view.equals(other);
+    }
   }
 
   @Override // List<TypeMirror>
   public final void forEach(final Consumer<? super TypeMirror> c) {
-    this.sortedSupertypes.forEach(c);
+    for (final TypeMirror t : this.types) {
+      c.accept(t);
+    }
   }
 
   @Override // List<TypeMirror>
   public final TypeMirror get(final int index) {
-    return this.sortedSupertypes.get(index);
+    return this.types[Objects.checkIndex(index, this.types.length)];
   }
 
   @Override // List<TypeMirror>
   public final int hashCode() {
-    return this.sortedSupertypes.hashCode();
+    return this.hashCode;
   }
 
   @Override // List<TypeMirror>
   public final int indexOf(final Object o) {
-    return this.sortedSupertypes.indexOf(o);
+    if (o instanceof TypeMirror t && this.ids != null) {
+      // Erased names are distinct, so only the type at the position of t's erased name can be equal to t. A name with no
+      // identifier cannot be present, and looking it up must not assign it one.
+      final int id = this.erasedNames.existingId(t);
+      if (id < 0) {
+        return -1;
+      }
+      final int i = this.position(id);
+      return i >= 0 && t.equals(this.types[i]) ? i : -1;
+    } else if (o != null) {
+      final TypeMirror[] types = this.types;
+      for (int i = 0; i < types.length; i++) {
+        if (o.equals(types[i])) {
+          return i;
+        }
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Returns the index of the type in this {@link SupertypeList} whose {@linkplain Types#erasedName(TypeMirror) erased
+   * name} is equal to the supplied erased name, or {@code -1} if there is no such type.
+   *
+   * <p>Once a {@link SupertypeList} has been queried in this way a small number of times, it builds an index so that
+   * subsequent such queries take constant time.</p>
+   *
+   * @param erasedName an erased name; must not be {@code null}
+   *
+   * @return the index of the type in this {@link SupertypeList} whose erased name is equal to the supplied erased name,
+   * or {@code -1}
+   *
+   * @exception NullPointerException if {@code erasedName} is {@code null}
+   *
+   * @see #containsErasedName(String)
+   */
+  public final int indexOfErasedName(final String erasedName) {
+    if (this.ids == null) {
+      for (int i = 0; i < this.types.length; i++) {
+        if (erasedName.equals(Types.erasedName(this.types[i]))) {
+          return i;
+        }
+      }
+      return -1;
+    }
+    final int id = this.erasedNames.existingId(erasedName);
+    return id < 0 ? -1 : this.position(id);
   }
 
   /**
@@ -151,34 +281,114 @@ public final class SupertypeList implements List<TypeMirror> {
     return this.interfaceIndex;
   }
 
+  /**
+   * Returns an immutable view of the {@linkplain javax.lang.model.element.ElementKind#isInterface() interface types} in
+   * this {@link SupertypeList}, in order.
+   *
+   * <p>No copy of this {@link SupertypeList}'s elements is made.</p>
+   *
+   * @return an immutable view of the {@linkplain javax.lang.model.element.ElementKind#isInterface() interface types} in
+   * this {@link SupertypeList}; never {@code null}
+   *
+   * @see #interfaceIndex()
+   *
+   * @see #nonInterfaceTypes()
+   */
+  public final List<TypeMirror> interfaceTypes() {
+    return this.interfaceIndex < 0 ? List.of() : this.view.subList(this.interfaceIndex, this.types.length);
+  }
+
   @Override // List<TypeMirror>
   public final boolean isEmpty() {
-    return this.sortedSupertypes.isEmpty();
+    return this.types.length == 0;
   }
 
   @Override // List<TypeMirror>
   public final Iterator<TypeMirror> iterator() {
-    return this.sortedSupertypes.iterator();
+    return this.view.iterator();
   }
 
   @Override // List<TypeMirror>
   public final int lastIndexOf(final Object o) {
-    return this.sortedSupertypes.lastIndexOf(o);
+    if (o != null) {
+      final TypeMirror[] types = this.types;
+      for (int i = types.length - 1; i >= 0; i--) {
+        if (o.equals(types[i])) {
+          return i;
+        }
+      }
+    }
+    return -1;
   }
 
   @Override // List<TypeMirror>
   public final ListIterator<TypeMirror> listIterator() {
-    return this.sortedSupertypes.listIterator();
+    return this.view.listIterator();
   }
 
   @Override // List<TypeMirror>
   public final ListIterator<TypeMirror> listIterator(final int index) {
-    return this.sortedSupertypes.listIterator(index);
+    return this.view.listIterator(index);
+  }
+
+  /**
+   * Returns an immutable view of the types in this {@link SupertypeList} that are not {@linkplain
+   * javax.lang.model.element.ElementKind#isInterface() interface types}, in order.
+   *
+   * <p>No copy of this {@link SupertypeList}'s elements is made.</p>
+   *
+   * @return an immutable view of the types in this {@link SupertypeList} that are not {@linkplain
+   * javax.lang.model.element.ElementKind#isInterface() interface types}; never {@code null}
+   *
+   * @see #interfaceIndex()
+   *
+   * @see #interfaceTypes()
+   */
+  public final List<TypeMirror> nonInterfaceTypes() {
+    return this.interfaceIndex < 0 ? this.view : this.view.subList(0, this.interfaceIndex);
   }
 
   @Override // List<TypeMirror>
   public final Stream<TypeMirror> parallelStream() {
-    return this.sortedSupertypes.parallelStream();
+    return this.stream().parallel();
+  }
+
+  // Returns the erased name identifiers parallel to this list's elements, or null. The array must not be modified.
+  final int[] ids() {
+    return this.ids;
+  }
+
+  // Returns the start of each interface's run of direct interface supertypes' positions in parents(), or null. The
+  // array must not be modified.
+  final int[] parentStart() {
+    return this.parentStart;
+  }
+
+  // Returns the positions of the direct interface supertypes of interfaces, or null. The array must not be modified.
+  final int[] parents() {
+    return this.parents;
+  }
+
+  // Returns the position of the supplied erased name identifier in ids, or -1; ids must not be null.
+  private final int position(final int id) {
+    IntSet index = this.index;
+    if (index == null) {
+      if (++this.lookups <= INDEX_THRESHOLD) {
+        final int[] ids = this.ids;
+        for (int i = 0; i < ids.length; i++) {
+          if (ids[i] == id) {
+            return i;
+          }
+        }
+        return -1;
+      }
+      index = new IntSet(this.ids.length);
+      for (final int i : this.ids) {
+        index.add(i); // insertion positions are therefore positions in ids
+      }
+      this.index = index; // racy but benign: any thread may build an equivalent index
+    }
+    return index.indexOf(id);
   }
 
   @Override // List<TypeMirror>
@@ -228,7 +438,7 @@ public final class SupertypeList implements List<TypeMirror> {
 
   @Override // List<TypeMirror>
   public final int size() {
-    return this.sortedSupertypes.size();
+    return this.types.length;
   }
 
   @Override // List<TypeMirror>
@@ -238,37 +448,37 @@ public final class SupertypeList implements List<TypeMirror> {
 
   @Override // List<TypeMirror>
   public final Spliterator<TypeMirror> spliterator() {
-    return this.sortedSupertypes.spliterator();
+    return Spliterators.spliterator(this.types, Spliterator.IMMUTABLE | Spliterator.NONNULL | Spliterator.ORDERED);
   }
 
   @Override // List<TypeMirror>
   public final Stream<TypeMirror> stream() {
-    return this.sortedSupertypes.stream();
+    return StreamSupport.stream(this.spliterator(), false);
   }
 
   @Override // List<TypeMirror>
   public final List<TypeMirror> subList(final int from, final int to) {
-    return this.sortedSupertypes.subList(from, to);
+    return this.view.subList(from, to);
   }
 
   @Override // List<TypeMirror>
   public final Object[] toArray() {
-    return this.sortedSupertypes.toArray();
+    return Arrays.copyOf(this.types, this.types.length, Object[].class);
   }
 
   @Override // List<TypeMirror>
   public final <T> T[] toArray(final IntFunction<T[]> g) {
-    return this.sortedSupertypes.toArray(g);
+    return this.view.toArray(g);
   }
 
   @Override // List<TypeMirror>
   public final <T> T[] toArray(final T[] a) {
-    return this.sortedSupertypes.toArray(a);
+    return this.view.toArray(a);
   }
 
   @Override // Object
   public final String toString() {
-    return this.sortedSupertypes.toString();
+    return Arrays.toString(this.types);
   }
 
   /**
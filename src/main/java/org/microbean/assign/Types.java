@@ -20,13 +20,15 @@ import java.lang.constant.DynamicConstantDesc;
 import java.lang.constant.MethodHandleDesc;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.Set;
+import java.util.PriorityQueue;
 import java.util.StringJoiner;
 
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javax.lang.model.element.Element;
@@ -45,8 +47,6 @@ import static java.lang.constant.ConstantDescs.BSM_INVOKE;
 
 import static java.util.Comparator.comparing;
 
-import static java.util.HashSet.newHashSet;
-
 /**
  * A utility class that assists with working with a {@link Domain} instance.
  *
@@ -66,16 +66,19 @@ public class Types implements Constable {
 
   private static final ClassDesc CD_Domain = ClassDesc.of("org.microbean.construct.Domain");
 
+  // Erased name ids seen during supertype traversal; pooled per thread and cleared after each use.
+  private static final ThreadLocal<IntSet> SEEN = ThreadLocal.withInitial(() -> new IntSet(64)); // arbitrary size
+
 
   /*
    * Instance fields.
    */
 
 
-  private final Comparator<TypeMirror> c;
-
   private final Domain domain;
 
+  private final ErasedNames erasedNames;
+
 
   /*
    * Constructors.
@@ -92,9 +95,7 @@ public class Types implements Constable {
   public Types(final Domain domain) {
     super();
     this.domain = Objects.requireNonNull(domain, "domain");
-    this.c = comparing(TypeMirror::getKind, PrimitiveAndReferenceTypeKindComparator.INSTANCE)
-      .thenComparing(new SpecializationComparator(domain))
-      .thenComparing(Types::erasedName);
+    this.erasedNames = new ErasedNames();
   }
 
 
@@ -136,6 +137,11 @@ public class Types implements Constable {
     return this.domain;
   }
 
+  // Returns the table of canonical erased names used by this Types.
+  final ErasedNames erasedNames() {
+    return this.erasedNames;
+  }
+
   /**
    * Returns {@code true} if and only if the supplied {@link Object} is equal to this {@link Types}.
    *
@@ -192,6 +198,9 @@ public class Types implements Constable {
    *
    * <p>This method returns determinate values.</p>
    *
+   * <p>Overrides of this method must honor the contract described here. They may, for example, {@linkplain
+   * CachingTypes#supertypes(TypeMirror) return cached values}.</p>
+   *
    * <p>The elements of the returned {@link List} will be in the following (partial) order:</p>
    *
    * <ol>
@@ -202,6 +211,9 @@ public class Types implements Constable {
    *
    * <li>Non-interface types precede interface types.</li>
    *
+   * <li>Interface types that are not otherwise ordered by the rules above are ordered by their {@linkplain
+   * #erasedName(TypeMirror) erased names}.</li>
+   *
    * </ol>
    *
    * @param t a {@link TypeMirror}; must not be {@code null}
@@ -212,6 +224,8 @@ public class Types implements Constable {
    *
    * @see #supertypes(TypeMirror, Predicate)
    *
+   * @see CachingTypes
+   *
    * @see Domain#directSupertypes(TypeMirror)
    *
    * @spec https://docs.oracle.com/javase/specs/jls/se23/html/jls-4.html#jls-4.10 Java Language Specification, section
@@ -220,7 +234,7 @@ public class Types implements Constable {
    * @spec https://docs.oracle.com/javase/specs/jls/se23/html/jls-4.html#jls-4.10.2 Java Language Specification, section
    * 4.10.2
    */
-  public final SupertypeList supertypes(final TypeMirror t) {
+  public SupertypeList supertypes(final TypeMirror t) {
     return this.supertypes(t, Types::returnTrue);
   }
 
@@ -246,6 +260,9 @@ public class Types implements Constable {
    *
    * <li>Non-interface types precede interface types.</li>
    *
+   * <li>Interface types that are not otherwise ordered by the rules above are ordered by their {@linkplain
+   * #erasedName(TypeMirror) erased names}.</li>
+   *
    * </ol>
    *
    * @param t a {@link TypeMirror}; must not be {@code null}
@@ -266,55 +283,217 @@ public class Types implements Constable {
    * 4.10.2
    */
   public final SupertypeList supertypes(final TypeMirror t, final Predicate<? super TypeMirror> p) {
-    // This list will start by holding non-interface types. Once it has served its purpose here, it will be reused for a
-    // different purpose.
-    ArrayList<TypeMirror> types = new ArrayList<>(7); // arbitrary size
-    final ArrayList<TypeMirror> interfaceTypes = new ArrayList<>(17); // arbitrary size
-    this.supertypes(t, p, types, interfaceTypes, newHashSet(13)); // arbitrary size
-    final int interfaceIndex;
-    if (interfaceTypes.isEmpty()) {
-      interfaceIndex = -1;
-      if (types.isEmpty()) {
-        return SupertypeList.of();
+    Objects.requireNonNull(p, "p");
+    final IntSet pooledSeen = SEEN.get();
+    // The pooled set is non-empty only if this is a reentrant invocation on this thread (from p, for example).
+    final IntSet seen = pooledSeen.isEmpty() ? pooledSeen : new IntSet();
+    try {
+      // Every type visited, in depth-first order. The erased name id of the type at position i is seen.get(i).
+      final ArrayList<TypeMirror> nodes = new ArrayList<>(23); // arbitrary size
+      // The direct supertypes of the type at each position.
+      final ArrayList<List<? extends TypeMirror>> directSupertypes = new ArrayList<>(23); // arbitrary size
+      this.supertypes(t, seen, nodes, directSupertypes);
+      final int size = nodes.size();
+      // Record, in compressed sparse row form, the positions of the direct interface supertypes of each interface.
+      final int[] parentStart = new int[size + 1];
+      int[] parents = new int[size];
+      int edgeCount = 0;
+      for (int i = 0; i < size; i++) {
+        parentStart[i] = edgeCount;
+        if (isInterface(nodes.get(i))) {
+          for (final TypeMirror directSupertype : directSupertypes.get(i)) {
+            if (isInterface(directSupertype)) {
+              if (edgeCount == parents.length) {
+                parents = Arrays.copyOf(parents, edgeCount * 2);
+              }
+              parents[edgeCount++] = seen.indexOf(this.erasedNames.id(directSupertype));
+            }
+          }
+        }
       }
-    } else {
-      if (interfaceTypes.size() > 1) {
-        // interface types need to be sorted because they can show up in multiple implements clauses and you want the set
-        // to be determinate.
-        //
-        // (Non-interface supertypes are already sorted from most-specific to least and will not contain primitive
-        // types. By extension, array types will precede declared types (java.lang.Object). If t is a type variable, then
-        // either its supertype will be another type variable or a declared type, so type variables precede everything.)
-        interfaceTypes.sort(this.c);
+      parentStart[size] = edgeCount;
+      return this.supertypes(nodes, seen, parentStart, parents, p);
+    } finally {
+      seen.clear();
+    }
+  }
+
+  // Returns the supertypes of t, as the supertypes(TypeMirror) method would, by merging the SupertypeLists that the
+  // supplied Function returns for each of t's direct supertypes, instead of traversing the whole supertype graph.
+  //
+  // Merging applies only to declared types, whose supertypes' erasures do not depend on how they are parameterized; it
+  // is also abandoned if any direct supertype's SupertypeList does not record its interface graph. In either case the
+  // supertypes of t are computed from scratch.
+  //
+  // The non-interface types in each direct supertype's SupertypeList are in depth-first order, and the SupertypeLists
+  // are concatenated (less duplicates) in the order in which the Domain reports t's direct supertypes, so the
+  // non-interface types of the merged list are in the same depth-first order as a traversal from t would produce. (A
+  // type skipped because it was already seen has only supertypes that were also already seen.) The interface types are
+  // then placed from the merged interface graph, and their order depends only on that graph.
+  final SupertypeList mergedSupertypes(final TypeMirror t, final Function<? super TypeMirror, ? extends SupertypeList> f) {
+    if (t.getKind() != TypeKind.DECLARED) {
+      return this.supertypes(t, Types::returnTrue);
+    }
+    final List<? extends TypeMirror> ds = this.domain.directSupertypes(t);
+    final SupertypeList[] closures = new SupertypeList[ds.size()];
+    int size = 1; // reflexive
+    for (int k = 0; k < closures.length; k++) {
+      closures[k] = f.apply(ds.get(k)); // probably recursive
+      if (closures[k].parentStart() == null) {
+        return this.supertypes(t, Types::returnTrue);
       }
-      if (types.isEmpty()) {
-        interfaceIndex = 0;
-        types = interfaceTypes;
-      } else {
-        interfaceIndex = types.size();
-        types.addAll(interfaceTypes);
+      size += closures[k].size();
+    }
+    final IntSet pooledSeen = SEEN.get();
+    // The pooled set is non-empty only if this is a reentrant invocation on this thread.
+    final IntSet seen = pooledSeen.isEmpty() ? pooledSeen : new IntSet();
+    try {
+      final ArrayList<TypeMirror> nodes = new ArrayList<>(size);
+      // For each node after the first, the closure it came from, and its position in that closure.
+      final int[] sources = new int[size];
+      final int[] sourcePositions = new int[size];
+      seen.add(this.erasedNames.id(t));
+      nodes.add(t);
+      for (int k = 0; k < closures.length; k++) {
+        final SupertypeList closure = closures[k];
+        final int[] ids = closure.ids();
+        for (int j = 0; j < ids.length; j++) {
+          if (seen.add(ids[j])) {
+            sources[nodes.size()] = k;
+            sourcePositions[nodes.size()] = j;
+            nodes.add(closure.get(j));
+          }
+        }
       }
+      size = nodes.size();
+      final int[] parentStart = new int[size + 1];
+      int[] parents = new int[Math.max(1, size)];
+      int edgeCount = 0;
+      if (isInterface(t)) {
+        for (final TypeMirror directSupertype : ds) {
+          if (isInterface(directSupertype)) {
+            parents[edgeCount++] = seen.indexOf(this.erasedNames.id(directSupertype)); // never grows: ds.size() < size
+          }
+        }
+      }
+      for (int i = 1; i < size; i++) {
+        parentStart[i] = edgeCount;
+        final SupertypeList closure = closures[sources[i]];
+        final int[] closureIds = closure.ids();
+        final int[] closureParentStart = closure.parentStart();
+        final int[] closureParents = closure.parents();
+        final int j = sourcePositions[i];
+        for (int e = closureParentStart[j]; e < closureParentStart[j + 1]; e++) {
+          if (edgeCount == parents.length) {
+            parents = Arrays.copyOf(parents, edgeCount * 2);
+          }
+          parents[edgeCount++] = seen.indexOf(closureIds[closureParents[e]]);
+        }
+      }
+      parentStart[size] = edgeCount;
+      return this.supertypes(nodes, seen, parentStart, parents, Types::returnTrue);
+    } finally {
+      seen.clear();
     }
-    return new SupertypeList(types, interfaceIndex);
   }
 
   private final void supertypes(final TypeMirror t,
-                                final Predicate<? super TypeMirror> p,
-                                final ArrayList<? super TypeMirror> nonInterfaceTypes,
-                                final ArrayList<? super TypeMirror> interfaceTypes,
-                                final Set<? super String> seen) {
-    if (seen.add(erasedName(t))) {
-      if (p.test(t)) {
-        if (isInterface(t)) {
-          interfaceTypes.add(t); // reflexive
-        } else {
-          nonInterfaceTypes.add(t); // reflexive
+                                final IntSet seen,
+                                final List<? super TypeMirror> nodes,
+                                final List<? super List<? extends TypeMirror>> directSupertypes) {
+    if (seen.add(this.erasedNames.id(t))) {
+      nodes.add(t); // reflexive
+      final List<? extends TypeMirror> ds = this.domain.directSupertypes(t);
+      directSupertypes.add(ds);
+      for (final TypeMirror directSupertype : ds) {
+        this.supertypes(directSupertype, seen, nodes, directSupertypes); // recursive
+      }
+    }
+  }
+
+  // Assembles a SupertypeList from a supertype graph.
+  //
+  // nodes holds distinct (by erasure) types in depth-first order. The erased name id of nodes.get(i) is ids.get(i). If
+  // nodes.get(i) is an interface, the positions of its direct interface supertypes are parents[parentStart[i]]
+  // (inclusive) through parents[parentStart[i + 1]] (exclusive).
+  //
+  // Non-interface types remain in depth-first order, which already places subtypes before supertypes. Interface types
+  // can show up in multiple implements clauses, so they are placed in topological order instead, subtypes first, with
+  // ties broken by erased name, so that the result is determinate. (Because ties are always broken the same way, this is
+  // the lexicographically smallest topological order; it depends only on the subtype relation among the interfaces, not
+  // on how the graph was discovered.) This takes time linear in the number of edges (plus a logarithmic factor for
+  // tie-breaking) and consults the Domain not at all.
+  private final SupertypeList supertypes(final List<? extends TypeMirror> nodes,
+                                         final IntSet ids,
+                                         final int[] parentStart,
+                                         final int[] parents,
+                                         final Predicate<? super TypeMirror> p) {
+    final int size = nodes.size();
+    final TypeMirror[] types = new TypeMirror[size];
+    final int[] typeIds = new int[size]; // erased name ids parallel to types
+    final int[] order = new int[size]; // node positions parallel to types
+    int n = 0;
+    final int[] inDegrees = new int[size]; // for interfaces, the number of direct interface subtypes not yet placed
+    boolean interfaces = false;
+    for (int i = 0; i < size; i++) {
+      final TypeMirror t = nodes.get(i);
+      if (isInterface(t)) {
+        interfaces = true;
+        for (int e = parentStart[i]; e < parentStart[i + 1]; e++) {
+          ++inDegrees[parents[e]];
         }
+      } else if (p.test(t)) {
+        types[n] = t;
+        typeIds[n] = ids.get(i);
+        order[n++] = i;
       }
-      for (final TypeMirror directSupertype : this.domain.directSupertypes(t)) {
-        this.supertypes(directSupertype, p, nonInterfaceTypes, interfaceTypes, seen); // recursive
+    }
+    final int interfaceIndex = n;
+    if (interfaces) {
+      final PriorityQueue<Integer> ready = new PriorityQueue<>(comparing((Integer i) -> this.erasedNames.name(ids.get(i))));
+      for (int i = 0; i < size; i++) {
+        if (inDegrees[i] == 0 && isInterface(nodes.get(i))) {
+          ready.add(i);
+        }
+      }
+      while (!ready.isEmpty()) {
+        final int i = ready.poll();
+        final TypeMirror t = nodes.get(i);
+        if (p.test(t)) {
+          types[n] = t;
+          typeIds[n] = ids.get(i);
+          order[n++] = i;
+        }
+        for (int e = parentStart[i]; e < parentStart[i + 1]; e++) {
+          if (--inDegrees[parents[e]] == 0) {
+            ready.add(parents[e]);
+          }
+        }
+      }
+    }
+    if (n == 0) {
+      return SupertypeList.of();
+    } else if (n < size) {
+      // Some types were filtered out, so the graph is incomplete; don't record it
+      return new SupertypeList(Arrays.copyOf(types, n), Arrays.copyOf(typeIds, n), this.erasedNames, interfaceIndex < n ? interfaceIndex : -1);
+    }
+    // Record the interface graph in terms of positions in the result, so that it can be merged later
+    final int[] positions = new int[size];
+    for (int j = 0; j < size; j++) {
+      positions[order[j]] = j;
+    }
+    final int[] typeParentStart = new int[size + 1];
+    final int[] typeParents = new int[parentStart[size]];
+    int edgeCount = 0;
+    for (int j = 0; j < size; j++) {
+      typeParentStart[j] = edgeCount;
+      final int i = order[j];
+      for (int e = parentStart[i]; e < parentStart[i + 1]; e++) {
+        typeParents[edgeCount++] = positions[parents[e]];
       }
     }
+    typeParentStart[size] = edgeCount;
+    return new SupertypeList(types, typeIds, this.erasedNames, interfaceIndex < n ? interfaceIndex : -1, typeParentStart, typeParents);
   }
 
 
@@ -327,7 +506,7 @@ public class Types implements Constable {
     return cs instanceof String s ? s : cs.toString();
   }
 
-  private static final String erasedName(final Element e) {
+  static final String erasedName(final Element e) {
     return e instanceof QualifiedNameable qn ? erasedName(qn) : erasedName(e.getSimpleName());
   }
 
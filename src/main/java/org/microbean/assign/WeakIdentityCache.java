@@ -0,0 +1,207 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+
+import java.util.Objects;
+
+import java.util.function.Function;
+
+/**
+ * A concurrent cache whose keys are compared by identity and held only {@linkplain WeakReference weakly}, so that an
+ * entry is discarded once its key is no longer otherwise reachable.
+ *
+ * <p>Looking up a key that is present neither allocates nor invokes any of the key's methods. Values are computed
+ * <em>outside</em> of any lock, so a value for a given key may occasionally be computed more than once; the first value
+ * to be stored wins.</p>
+ *
+ * <p>A value must not refer, directly or indirectly, to its key, or the entry will never be discarded.</p>
+ *
+ * <p>Neither keys nor values may be {@code null}.</p>
+ *
+ * @param <K> the type of key
+ *
+ * @param <V> the type of value
+ *
+ * @author <a href="https://about.me/lairdnelson" target="_top">Laird Nelson</a>
+ *
+ * @see BoundedCache
+ */
+final class WeakIdentityCache<K, V> {
+
+
+  /*
+   * Instance fields.
+   */
+
+
+  // Keys whose referents have been reclaimed.
+  private final ReferenceQueue<K> queue;
+
+  // Chained buckets; the length is always a power of two. Guarded by this.
+  private Entry<K, V>[] table;
+
+  // Guarded by this.
+  private int size;
+
+
+  /*
+   * Constructors.
+   */
+
+
+  /**
+   * Creates a new, empty {@link WeakIdentityCache}.
+   */
+  @SuppressWarnings("unchecked")
+  WeakIdentityCache() {
+    super();
+    this.queue = new ReferenceQueue<>();
+    this.table = (Entry<K, V>[])new Entry<?, ?>[16];
+  }
+
+
+  /*
+   * Instance methods.
+   */
+
+
+  /**
+   * Returns the value cached under the supplied key, computing and caching it with the supplied {@link Function} if
+   * necessary.
+   *
+   * @param k the key; must not be {@code null}
+   *
+   * @param f the mapping {@link Function}; must not be {@code null}; must not return {@code null}
+   *
+   * @return the cached or computed value; never {@code null}
+   *
+   * @exception NullPointerException if either argument is {@code null}, or if the supplied {@link Function} returns
+   * {@code null}
+   */
+  final V computeIfAbsent(final K k, final Function<? super K, ? extends V> f) {
+    final int h = System.identityHashCode(Objects.requireNonNull(k, "k"));
+    V v = this.get(k, h);
+    if (v == null) {
+      v = Objects.requireNonNull(f.apply(k), "f.apply(k)");
+      v = this.putIfAbsent(k, h, v);
+    }
+    return v;
+  }
+
+  /**
+   * Returns the number of entries in this {@link WeakIdentityCache}, some of whose keys may already have been
+   * reclaimed.
+   *
+   * @return the number of entries in this {@link WeakIdentityCache}; never negative
+   */
+  final synchronized int size() {
+    this.expunge();
+    return this.size;
+  }
+
+  private final synchronized V get(final K k, final int h) {
+    final Entry<K, V>[] table = this.table;
+    for (Entry<K, V> e = table[h & (table.length - 1)]; e != null; e = e.next) {
+      if (e.refersTo(k)) {
+        return e.value;
+      }
+    }
+    return null;
+  }
+
+  private final synchronized V putIfAbsent(final K k, final int h, final V v) {
+    this.expunge();
+    Entry<K, V>[] table = this.table;
+    int i = h & (table.length - 1);
+    for (Entry<K, V> e = table[i]; e != null; e = e.next) {
+      if (e.refersTo(k)) {
+        return e.value; // computed concurrently; the first value stored wins
+      }
+    }
+    if (this.size >= table.length * 3 / 4) {
+      table = this.resize(table.length * 2);
+      i = h & (table.length - 1);
+    }
+    table[i] = new Entry<>(k, h, v, table[i], this.queue);
+    ++this.size;
+    return v;
+  }
+
+  // Removes entries whose keys have been reclaimed; must be called while synchronized on this.
+  private final void expunge() {
+    Object r;
+    while ((r = this.queue.poll()) != null) {
+      @SuppressWarnings("unchecked")
+      final Entry<K, V> stale = (Entry<K, V>)r;
+      final int i = stale.hash & (this.table.length - 1);
+      Entry<K, V> previous = null;
+      for (Entry<K, V> e = this.table[i]; e != null; previous = e, e = e.next) {
+        if (e == stale) {
+          if (previous == null) {
+            this.table[i] = e.next;
+          } else {
+            previous.next = e.next;
+          }
+          --this.size;
+          break;
+        }
+      }
+    }
+  }
+
+  // Must be called while synchronized on this.
+  @SuppressWarnings("unchecked")
+  private final Entry<K, V>[] resize(final int capacity) {
+    final Entry<K, V>[] table = (Entry<K, V>[])new Entry<?, ?>[capacity];
+    for (Entry<K, V> e : this.table) {
+      while (e != null) {
+        final Entry<K, V> next = e.next;
+        final int i = e.hash & (capacity - 1);
+        e.next = table[i];
+        table[i] = e;
+        e = next;
+      }
+    }
+    this.table = table;
+    return table;
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class Entry<K, V> extends WeakReference<K> {
+
+    private final int hash;
+
+    private final V value;
+
+    // Guarded by the owning WeakIdentityCache.
+    private Entry<K, V> next;
+
+    private Entry(final K k, final int hash, final V value, final Entry<K, V> next, final ReferenceQueue<? super K> queue) {
+      super(k, queue);
+      this.hash = hash;
+      this.value = value;
+      this.next = next;
+    }
+
+  }
+
+}
@@ -0,0 +1,289 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+
+import java.util.function.Predicate;
+
+import javax.lang.model.element.TypeElement;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestAbstractTypeMatcher {
+
+  private Domain domain;
+
+  private List<TypeMirror> types;
+
+  private TestAbstractTypeMatcher() {
+    super();
+  }
+
+  @BeforeEach
+  final void setup() {
+    final Domain d = new DefaultDomain();
+    this.domain = d;
+    final List<TypeMirror> ts = new ArrayList<>();
+    // Primitives
+    ts.add(d.primitiveType(TypeKind.INT));
+    ts.add(d.primitiveType(TypeKind.LONG));
+    ts.add(d.primitiveType(TypeKind.BOOLEAN));
+    // Non-generic declared types
+    for (final String n : List.of("java.lang.Object", "java.lang.Integer", "java.lang.Number", "java.lang.String",
+                                  "java.lang.CharSequence", "java.lang.Cloneable", "java.io.Serializable")) {
+      ts.add(d.declaredType(n));
+    }
+    final TypeElement list = d.typeElement("java.util.List");
+    final TypeElement collection = d.typeElement("java.util.Collection");
+    final TypeElement arrayList = d.typeElement("java.util.ArrayList");
+    final TypeElement comparable = d.typeElement("java.lang.Comparable");
+    // Raw types
+    ts.add(d.erasure(list.asType()));
+    ts.add(d.erasure(collection.asType()));
+    ts.add(d.erasure(arrayList.asType()));
+    ts.add(d.erasure(comparable.asType()));
+    // Parameterized types
+    final DeclaredType string = d.declaredType("java.lang.String");
+    final DeclaredType integer = d.declaredType("java.lang.Integer");
+    final DeclaredType number = d.declaredType("java.lang.Number");
+    ts.add(d.declaredType(list, string));
+    ts.add(d.declaredType(list, integer));
+    ts.add(d.declaredType(collection, string));
+    ts.add(d.declaredType(arrayList, string));
+    ts.add(d.declaredType(comparable, integer));
+    ts.add(d.declaredType(list, d.wildcardType(number, null)));
+    ts.add(d.declaredType(list, d.wildcardType(null, integer)));
+    ts.add(d.declaredType(list, d.wildcardType(null, null)));
+    // Type variables: List's unbounded E and Enum's bounded E
+    ts.add(((DeclaredType)list.asType()).getTypeArguments().get(0));
+    ts.add(((DeclaredType)d.typeElement("java.lang.Enum").asType()).getTypeArguments().get(0));
+    // Wildcards
+    ts.add(d.wildcardType(number, null));
+    ts.add(d.wildcardType(null, integer));
+    ts.add(d.wildcardType(null, null));
+    // Arrays of primitives and of references
+    ts.add(d.arrayTypeOf(d.primitiveType(TypeKind.INT)));
+    ts.add(d.arrayTypeOf(d.arrayTypeOf(d.primitiveType(TypeKind.LONG))));
+    ts.add(d.arrayTypeOf(string));
+    ts.add(d.arrayTypeOf(d.declaredType("java.lang.Object")));
+    ts.add(d.arrayTypeOf(d.arrayTypeOf(integer)));
+    ts.add(d.arrayTypeOf(d.erasure(list.asType())));
+    ts.add(d.arrayTypeOf(d.declaredType(list, string)));
+    this.types = List.copyOf(ts);
+  }
+
+  @Test
+  final void testCachingMatcherAgreesWithNonCachingMatcher() {
+    final TypeMatcher plain = new TypeMatcher(this.domain);
+    final TypeMatcher caching = new TypeMatcher(this.domain, 1024);
+    // Ask every question twice so that the second answers come from the cache
+    for (int i = 0; i < 2; i++) {
+      for (final TypeMirror r : this.types) {
+        for (final TypeMirror p : this.types) {
+          assertEquals(plain.test(r, p), caching.test(r, p), p + " -> " + r);
+          assertEquals(plain.identical(r, p), caching.identical(r, p), p + " == " + r);
+        }
+      }
+    }
+  }
+
+  @Test
+  final void testCacheStatisticsReportHitsOnRepeatedQuestions() {
+    final TypeMatcher caching = new TypeMatcher(this.domain, 1024);
+    final TypeMirror r = this.types.get(this.types.size() - 1); // an array type
+    final TypeMirror p = this.types.get(this.types.size() - 2); // an array type
+    assertEquals(0L, caching.cacheStatistics().orElseThrow().requests());
+    caching.test(r, p);
+    final CacheStatistics s0 = caching.cacheStatistics().orElseThrow();
+    assertEquals(0L, s0.hits());
+    assertEquals(1L, s0.misses());
+    caching.test(r, p);
+    caching.test(r, p);
+    final CacheStatistics s1 = caching.cacheStatistics().orElseThrow();
+    assertEquals(2L, s1.hits());
+    assertEquals(1L, s1.misses());
+    assertEquals(1, s1.size());
+  }
+
+  @Test
+  final void testRepeatedQuestionsAreAnsweredByTheCacheBeforeAnyFastPath() {
+    final TypeMatcher caching = new TypeMatcher(this.domain, 1024);
+    final TypeMirror charSequence = this.domain.declaredType("java.lang.CharSequence");
+    final TypeMirror string = this.domain.declaredType("java.lang.String");
+    assertTrue(caching.covariantlyAssignable(charSequence, string));
+    assertTrue(caching.covariantlyAssignable(charSequence, string));
+    final AssignabilityStatistics s = caching.assignabilityStatistics().orElseThrow();
+    assertEquals(1L, s.supertypes()); // only the first answer was computed from string's supertypes
+    assertEquals(1L, s.other());
+    final CacheStatistics c = caching.cacheStatistics().orElseThrow();
+    assertEquals(1L, c.hits());
+    assertEquals(1L, c.misses());
+  }
+
+  @Test
+  final void testNonCachingMatcherHasNoCacheStatistics() {
+    final TypeMatcher plain = new TypeMatcher(this.domain);
+    plain.test(this.types.get(0), this.types.get(1));
+    assertTrue(plain.cacheStatistics().isEmpty());
+    assertTrue(new TypeMatcher(this.domain, 0, null).cacheStatistics().isEmpty());
+  }
+
+  @Test
+  final void testFastPathsAgreeWithDomain() {
+    final List<TypeMirror> declaredTypes = new ArrayList<>();
+    for (final TypeMirror t : this.types) {
+      if (t.getKind() == TypeKind.DECLARED) {
+        declaredTypes.add(t);
+      }
+    }
+    final HierarchyIndex index = new HierarchyIndex(new CachingTypes(this.domain), declaredTypes);
+    final List<TypeMatcher> matchers =
+      List.of(new TypeMatcher(this.domain), new TypeMatcher(this.domain, 1024), new TypeMatcher(this.domain, 1024, index));
+    for (final TypeMirror r : this.types) {
+      for (final TypeMirror p : this.types) {
+        final boolean expected = this.domain.assignable(p, r);
+        for (final TypeMatcher m : matchers) {
+          assertEquals(expected, m.test(r, p), p + " -> " + r);
+        }
+      }
+    }
+    final int questions = this.types.size() * this.types.size();
+    assertTrue(matchers.get(0).assignabilityStatistics().isEmpty());
+    for (final TypeMatcher m : matchers.subList(1, matchers.size())) {
+      final AssignabilityStatistics s = m.assignabilityStatistics().orElseThrow();
+      assertEquals(questions, s.requests());
+      assertEquals(this.types.size(), s.identity());
+      assertTrue(s.javaLangObject() > 0L);
+      assertTrue(s.primitiveArray() > 0L);
+      assertTrue(s.arrayDeclared() > 0L);
+      assertTrue(s.supertypes() > 0L);
+      assertTrue(s.other() > 0L);
+    }
+    assertEquals(0L, matchers.get(1).assignabilityStatistics().orElseThrow().hierarchyIndex());
+    assertTrue(matchers.get(2).assignabilityStatistics().orElseThrow().hierarchyIndex() > 0L);
+  }
+
+  @Test
+  final void testAssignabilityMatrixAgreesWithCovariantlyAssignable() {
+    final List<TypeMirror> receivers = this.types;
+    final List<TypeMirror> payloads = this.types.reversed();
+    for (final TypeMatcher m : List.of(new TypeMatcher(this.domain), new TypeMatcher(this.domain, 1024))) {
+      final List<BitSet> rows = m.assignabilityMatrix(receivers, payloads);
+      assertEquals(receivers.size(), rows.size());
+      for (int i = 0; i < receivers.size(); i++) {
+        final BitSet row = rows.get(i);
+        assertTrue(row.length() <= payloads.size());
+        for (int j = 0; j < payloads.size(); j++) {
+          assertEquals(m.test(receivers.get(i), payloads.get(j)), row.get(j), payloads.get(j) + " -> " + receivers.get(i));
+        }
+      }
+      assertEquals(List.of(), m.assignabilityMatrix(List.of(), payloads));
+      final List<BitSet> empty = m.assignabilityMatrix(receivers, List.of());
+      assertEquals(receivers.size(), empty.size());
+      for (final BitSet row : empty) {
+        assertTrue(row.isEmpty());
+      }
+    }
+  }
+
+  @Test
+  final void testPreparedPlansAgreeWithTest() {
+    final List<TypeMirror> declaredTypes = new ArrayList<>();
+    for (final TypeMirror t : this.types) {
+      if (t.getKind() == TypeKind.DECLARED) {
+        declaredTypes.add(t);
+      }
+    }
+    final HierarchyIndex index = new HierarchyIndex(new CachingTypes(this.domain), declaredTypes);
+    final TypeMatcher plain = new TypeMatcher(this.domain);
+    // The default plan, which just calls test(TypeMirror, TypeMirror)
+    final Matcher<TypeMirror, TypeMirror> unprepared = plain::test;
+    for (final Matcher<TypeMirror, TypeMirror> m :
+           List.of(unprepared, plain, new TypeMatcher(this.domain, 1024), new TypeMatcher(this.domain, 1024, index))) {
+      for (final TypeMirror r : this.types) {
+        final Predicate<TypeMirror> plan = m.prepare(r);
+        // Use each plan twice so that answers it caches are tested too
+        for (int i = 0; i < 2; i++) {
+          for (final TypeMirror p : this.types) {
+            assertEquals(m.test(r, p), plan.test(p), p + " -> " + r);
+          }
+        }
+        assertThrows(NullPointerException.class, () -> plan.test(null));
+      }
+      assertThrows(NullPointerException.class, () -> m.prepare(null));
+    }
+  }
+
+  @Test
+  final void testCachedTraitsAgreeWithComputedTraits() {
+    final TypeMatcher plain = new TypeMatcher(this.domain);
+    final TypeMatcher caching = new TypeMatcher(this.domain, 1024);
+    // Ask about every type twice so that the second answers come from the cache
+    for (int i = 0; i < 2; i++) {
+      for (final TypeMirror t : this.types) {
+        assertEquals(plain.yieldsRawType(t), caching.yieldsRawType(t), t.toString());
+        assertEquals(plain.unboundedTypeVariable(t), caching.unboundedTypeVariable(t), t.toString());
+        assertEquals(plain.nonGenericClassOrRawType(t), caching.nonGenericClassOrRawType(t), t.toString());
+      }
+    }
+  }
+
+
+  /*
+   * Inner and nested classes.
+   */
+
+
+  private static final class TypeMatcher extends AbstractTypeMatcher {
+
+    private TypeMatcher(final Domain domain) {
+      super(domain);
+    }
+
+    private TypeMatcher(final Domain domain, final int maximumCacheSize) {
+      super(domain, maximumCacheSize);
+    }
+
+    private TypeMatcher(final Domain domain, final int maximumCacheSize, final HierarchyIndex hierarchyIndex) {
+      super(domain, maximumCacheSize, hierarchyIndex);
+    }
+
+    @Override // Matcher<TypeMirror, TypeMirror>
+    public final boolean test(final TypeMirror receiver, final TypeMirror payload) {
+      return this.covariantlyAssignable(receiver, payload);
+    }
+
+    @Override // Matcher<TypeMirror, TypeMirror>
+    public final Predicate<TypeMirror> prepare(final TypeMirror receiver) {
+      return this.covariantlyAssignableTo(receiver);
+    }
+
+  }
+
+}
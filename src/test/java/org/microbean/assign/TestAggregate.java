@@ -0,0 +1,128 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SequencedSet;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import java.util.function.Function;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static java.util.Collections.unmodifiableSequencedSet;
+
+import static java.util.LinkedHashSet.newLinkedHashSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestAggregate {
+
+  private static final List<String> NAMES =
+    List.of("java.lang.Integer", "java.lang.Long", "java.lang.String", "java.util.List", "java.util.Map", "java.util.Set");
+
+  private ExecutorService x;
+
+  private Aggregate aggregate;
+
+  private TestAggregate() {
+    super();
+  }
+
+  @BeforeEach
+  final void setup() {
+    this.x = Executors.newFixedThreadPool(4);
+    final Domain domain = new DefaultDomain();
+    final SequencedSet<AttributedElement> dependencies = newLinkedHashSet(NAMES.size());
+    for (final String n : NAMES) {
+      dependencies.add(new AttributedElement(domain.typeElement(n), List.of()));
+    }
+    final SequencedSet<AttributedElement> ds = unmodifiableSequencedSet(dependencies);
+    this.aggregate = new Aggregate() {
+        @Override
+        public final SequencedSet<AttributedElement> dependencies() {
+          return ds;
+        }
+      };
+  }
+
+  @AfterEach
+  final void tearDown() {
+    this.x.shutdownNow();
+  }
+
+  @Test
+  final void testConcurrentAssignmentsAreInDependencyOrder() {
+    // Earlier dependencies take longer to resolve, so tasks complete in roughly reverse order
+    final Function<AttributedType, Object> r = t -> {
+      sleep(10L * (NAMES.size() - index(t)));
+      return t.type().toString();
+    };
+    final List<Assignment<?>> expected = new ArrayList<>(this.aggregate.assign(r));
+    final List<Assignment<?>> actual = new ArrayList<>(this.aggregate.assign(r, this.x));
+    assertEquals(expected, actual);
+    assertEquals(NAMES.size(), actual.size());
+    final List<AttributedElement> dependencies = new ArrayList<>(this.aggregate.dependencies());
+    for (int i = 0; i < NAMES.size(); i++) {
+      assertSame(dependencies.get(i), actual.get(i).assignee());
+    }
+  }
+
+  @Test
+  final void testFirstFailureIsThrownWithLaterFailuresSuppressed() {
+    // Dependencies 1, 3 and 4 fail; 1 fails last
+    final Function<AttributedType, Object> r = t -> {
+      final int i = index(t);
+      if (i == 1 || i == 3 || i == 4) {
+        sleep(i == 1 ? 100L : 0L);
+        throw new IllegalStateException(String.valueOf(i));
+      }
+      return t.type().toString();
+    };
+    final IllegalStateException e = assertThrows(IllegalStateException.class, () -> this.aggregate.assign(r, this.x));
+    assertEquals("1", e.getMessage());
+    assertEquals(2, e.getSuppressed().length);
+    assertEquals("3", e.getSuppressed()[0].getMessage());
+    assertEquals("4", e.getSuppressed()[1].getMessage());
+  }
+
+  private static final int index(final AttributedType t) {
+    for (int i = 0; i < NAMES.size(); i++) {
+      if (t.type().toString().startsWith(NAMES.get(i))) {
+        return i;
+      }
+    }
+    throw new AssertionError(t);
+  }
+
+  private static final void sleep(final long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new AssertionError(e);
+    }
+  }
+
+}
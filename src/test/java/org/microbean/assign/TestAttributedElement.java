@@ -0,0 +1,69 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.attributes.Attributes;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class TestAttributedElement {
+
+  private TestAttributedElement() {
+    super();
+  }
+
+  @Test
+  final void testAttributedTypeIsCreatedOnce() {
+    final Domain domain = new DefaultDomain();
+    final TypeElement string = domain.typeElement("java.lang.String");
+    final Qualifiers qualifiers = new Qualifiers();
+    final List<Attributes> attributes = List.of(Attributes.of("Named", qualifiers.qualifier()), Attributes.of("X"));
+    final AttributedElement e = new AttributedElement(string, new ArrayList<>(attributes));
+    final AttributedType t = e.attributedType();
+    assertSame(t, e.attributedType());
+    assertEquals(new AttributedType(string.asType(), attributes), t);
+    assertSame(e.type(), t.type());
+    assertSame(e.attributes(), t.attributes()); // not copied again
+    // Equal but distinct AttributedElements each have their own (equal) AttributedType
+    final AttributedElement e2 = new AttributedElement(string, attributes);
+    assertEquals(e, e2);
+    assertEquals(t, e2.attributedType());
+    assertNotSame(t, e2.attributedType());
+    assertSame(e2.attributedType(), e2.attributedType());
+  }
+
+  @Test
+  final void testUnmodifiableAttributesAreNotCopied() {
+    final Domain domain = new DefaultDomain();
+    final Qualifiers qualifiers = new Qualifiers();
+    final List<Attributes> normalized =
+      qualifiers.normalize(new ArrayList<>(List.of(Attributes.of("Named", qualifiers.qualifier()), Attributes.of("X"))));
+    assertSame(normalized, new AttributedType(domain.declaredType("java.lang.String"), normalized).attributes());
+    final List<Attributes> one = List.of(Attributes.of("X"));
+    assertSame(one, new AttributedType(domain.declaredType("java.lang.String"), one).attributes());
+  }
+
+}
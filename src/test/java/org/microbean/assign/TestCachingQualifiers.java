@@ -0,0 +1,65 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.attributes.Attributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class TestCachingQualifiers {
+
+  private TestCachingQualifiers() {
+    super();
+  }
+
+  @Test
+  final void testHitsAndMisses() {
+    final CachingQualifiers cq = new CachingQualifiers();
+    final Attributes named = Attributes.of("Named", cq.qualifier());
+    final Attributes notAQualifier = Attributes.of("NotAQualifier");
+    final List<Attributes> list = List.of(named, notAQualifier);
+    final List<Attributes> qualifiers = cq.qualifiers(list);
+    assertEquals(List.of(named), qualifiers);
+    assertEquals(new CacheStatistics(0L, 1L, 0L, 1), cq.statistics()); // one lookup, counted once
+    assertSame(qualifiers, cq.qualifiers(new ArrayList<>(list)));
+    assertEquals(new CacheStatistics(1L, 1L, 0L, 1), cq.statistics());
+    final List<Attributes> normalized = cq.normalize(list);
+    assertEquals(list, normalized);
+    assertSame(normalized, cq.normalize(new ArrayList<>(list)));
+    assertEquals(new CacheStatistics(2L, 2L, 0L, 2), cq.statistics());
+  }
+
+  @Test
+  final void testEvictionAndClear() {
+    final CachingQualifiers cq = new CachingQualifiers(1);
+    final List<Attributes> a = List.of(Attributes.of("A", cq.qualifier()), Attributes.of("X"));
+    final List<Attributes> b = List.of(Attributes.of("B", cq.qualifier()), Attributes.of("X"));
+    final List<Attributes> qa = cq.qualifiers(a);
+    cq.qualifiers(b); // evicts a's entry
+    assertEquals(new CacheStatistics(0L, 2L, 1L, 1), cq.statistics());
+    assertEquals(qa, cq.qualifiers(a)); // recomputed
+    assertEquals(new CacheStatistics(0L, 3L, 2L, 1), cq.statistics());
+    cq.clear();
+    assertEquals(new CacheStatistics(0L, 3L, 2L, 0), cq.statistics()); // statistics are not reset
+    cq.qualifiers(a);
+    assertEquals(new CacheStatistics(0L, 4L, 2L, 1), cq.statistics());
+  }
+
+}
@@ -0,0 +1,101 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.List;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestCachingTypes {
+
+  private Domain domain;
+
+  private CachingTypes types;
+
+  private TestCachingTypes() {
+    super();
+  }
+
+  @BeforeEach
+  final void setup() {
+    this.domain = new DefaultDomain();
+    this.types = new CachingTypes(this.domain);
+  }
+
+  @Test
+  final void testCachedSupertypesAreEqualToComputedSupertypes() {
+    final Types uncached = new Types(this.domain);
+    for (final String n : List.of("java.lang.String", "java.util.ArrayList", "java.util.AbstractList", "java.util.List",
+                                  "java.util.concurrent.ConcurrentSkipListMap", "java.util.LinkedHashMap", "java.lang.Integer")) {
+      final TypeMirror t = domain.declaredType(n);
+      assertEquals(uncached.supertypes(t), types.supertypes(t), n);
+    }
+  }
+
+  @Test
+  final void testCachedSupertypesOfParameterizedTypesAreTheSameAsComputedSupertypes() {
+    final Types uncached = new Types(this.domain);
+    final TypeMirror string = domain.declaredType("java.lang.String");
+    final TypeMirror integer = domain.declaredType("java.lang.Integer");
+    for (final TypeMirror t : List.of(domain.declaredType(domain.typeElement("java.util.ArrayList"), string),
+                                      domain.declaredType(domain.typeElement("java.util.HashMap"), string, integer),
+                                      domain.declaredType(domain.typeElement("java.util.List"), string),
+                                      domain.declaredType(domain.typeElement("java.util.concurrent.ConcurrentSkipListMap"),
+                                                          integer,
+                                                          string))) {
+      final SupertypeList expected = uncached.supertypes(t);
+      final SupertypeList actual = types.supertypes(t);
+      assertEquals(expected.size(), actual.size(), t.toString());
+      assertEquals(expected.interfaceIndex(), actual.interfaceIndex(), t.toString());
+      for (int i = 0; i < expected.size(); i++) {
+        // Type arguments must have been substituted through the merge
+        assertTrue(domain.sameType(expected.get(i), actual.get(i)), expected.get(i) + " != " + actual.get(i));
+        assertEquals(expected.get(i).toString(), actual.get(i).toString());
+      }
+    }
+  }
+
+  @Test
+  final void testRepeatedLookupIsAHit() {
+    final TypeMirror string = domain.declaredType("java.lang.String");
+    final SupertypeList first = types.supertypes(string);
+    final CacheStatistics before = types.statistics();
+    assertSame(first, types.supertypes(string));
+    final CacheStatistics after = types.statistics();
+    assertEquals(before.hits() + 1L, after.hits());
+    assertEquals(before.misses(), after.misses());
+  }
+
+  @Test
+  final void testCacheIsBounded() {
+    final CachingTypes types = new CachingTypes(this.domain, 1);
+    types.supertypes(domain.declaredType("java.lang.String"));
+    types.supertypes(domain.declaredType("java.lang.Integer"));
+    types.supertypes(domain.declaredType("java.lang.Long"));
+    final CacheStatistics stats = types.statistics();
+    assertEquals(1, stats.size());
+    assertEquals(stats.misses() - 1L, stats.evictions());
+  }
+
+}
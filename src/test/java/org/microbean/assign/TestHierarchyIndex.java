@@ -0,0 +1,89 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.lang.model.element.Element;
+
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestHierarchyIndex {
+
+  private TestHierarchyIndex() {
+    super();
+  }
+
+  @Test
+  final void testIndexAgreesWithDomain() {
+    final Domain domain = new DefaultDomain();
+    final Types types = new CachingTypes(domain);
+    final List<TypeMirror> ts = new ArrayList<>();
+    for (final String n : List.of("java.util.ArrayList", "java.util.LinkedList", "java.util.HashMap", "java.lang.Integer",
+                                  "java.lang.String", "java.util.concurrent.ConcurrentSkipListSet",
+                                  "java.util.concurrent.ConcurrentHashMap", "java.io.BufferedReader")) {
+      ts.add(domain.typeElement(n).asType());
+    }
+    final HierarchyIndex index = new HierarchyIndex(types, ts);
+    assertFalse(index.indexed(ts.get(0))); // generic declarations are parameterized by their type variables
+    // Every indexed type: the raw or non-generic type of each element declaring one of the universe's supertypes
+    final Set<Element> elements = new LinkedHashSet<>();
+    for (final TypeMirror u : ts) {
+      for (final TypeMirror t : types.supertypes(u)) {
+        if (t.getKind() == TypeKind.DECLARED) {
+          elements.add(((DeclaredType)t).asElement());
+        }
+      }
+    }
+    final List<TypeMirror> raw = new ArrayList<>();
+    for (final Element e : elements) {
+      final TypeMirror t = domain.erasure(e.asType());
+      assertTrue(index.indexed(t), t.toString());
+      raw.add(t);
+    }
+    assertEquals(raw.size(), index.size());
+    for (final TypeMirror t : raw) {
+      for (final TypeMirror s : raw) {
+        assertEquals(domain.subtype(t, s), index.subtype(t, s), t + " <: " + s);
+      }
+    }
+  }
+
+  @Test
+  final void testQueriesDoNotAssignErasedNames() {
+    final Domain domain = new DefaultDomain();
+    final Types types = new CachingTypes(domain);
+    final HierarchyIndex index = new HierarchyIndex(types, List.of(domain.declaredType("java.lang.Integer")));
+    final int size = types.erasedNames().size();
+    final TypeMirror thread = domain.declaredType("java.lang.Thread");
+    assertFalse(index.indexed(thread));
+    assertTrue(index.subtype(thread, domain.declaredType("java.lang.Runnable"))); // answered by the Domain
+    assertEquals(size, types.erasedNames().size());
+  }
+
+}
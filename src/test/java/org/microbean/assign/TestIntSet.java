@@ -0,0 +1,143 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.lang.model.type.TypeMirror;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestIntSet {
+
+  private TestIntSet() {
+    super();
+  }
+
+  @Test
+  final void testCollidingKeysAreProbed() {
+    // A set expecting 4 elements has 8 slots; find keys that all hash to the same one
+    final IntSet set = new IntSet(4);
+    final int[] colliding = new int[4];
+    for (int key = 0, n = 0; n < colliding.length; key++) {
+      if ((mix(key) & 7) == 3) {
+        colliding[n++] = key;
+      }
+    }
+    for (final int key : colliding) {
+      assertTrue(set.add(key));
+      assertFalse(set.add(key));
+    }
+    assertEquals(colliding.length, set.size());
+    for (int i = 0; i < colliding.length; i++) {
+      assertEquals(i, set.indexOf(colliding[i]));
+      assertEquals(colliding[i], set.get(i));
+    }
+    // A key that hashes to the same slot but is absent is not found
+    int absent = colliding[colliding.length - 1] + 1;
+    while ((mix(absent) & 7) != 3) {
+      ++absent;
+    }
+    assertEquals(-1, set.indexOf(absent));
+    assertFalse(set.contains(absent));
+  }
+
+  @Test
+  final void testGrowthPreservesInsertionPositions() {
+    final IntSet set = new IntSet(1);
+    for (int i = 0; i < 1000; i++) {
+      // Descending keys, so that insertion positions differ from the keys themselves
+      assertTrue(set.add(2 * (1000 - i)));
+    }
+    assertEquals(1000, set.size());
+    for (int i = 0; i < 1000; i++) {
+      final int key = 2 * (1000 - i);
+      assertEquals(i, set.indexOf(key));
+      assertEquals(key, set.get(i));
+      assertFalse(set.contains(key + 1));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> set.get(1000));
+  }
+
+  @Test
+  final void testClearAllowsReuse() {
+    final IntSet set = new IntSet();
+    for (int i = 0; i < 100; i++) {
+      set.add(i);
+    }
+    set.clear();
+    assertTrue(set.isEmpty());
+    assertEquals(0, set.size());
+    for (int i = 0; i < 100; i++) {
+      assertFalse(set.contains(i));
+    }
+    assertThrows(IndexOutOfBoundsException.class, () -> set.get(0));
+    // Refill in a different order; positions reflect only the new insertions
+    for (int i = 0; i < 50; i++) {
+      assertTrue(set.add(99 - i));
+    }
+    for (int i = 0; i < 50; i++) {
+      assertEquals(i, set.indexOf(99 - i));
+    }
+    assertEquals(-1, set.indexOf(0));
+  }
+
+  @Test
+  final void testPooledInstanceIsClearedAfterUse() {
+    // Types pools an IntSet per thread; a reentrant traversal must get its own, and later ones must see an empty one
+    final Domain domain = new DefaultDomain();
+    final Types types = new Types(domain);
+    final TypeMirror string = domain.declaredType("java.lang.String");
+    final TypeMirror integer = domain.declaredType("java.lang.Integer");
+    final List<TypeMirror> expected = List.copyOf(types.supertypes(integer));
+    final List<List<TypeMirror>> reentrant = new ArrayList<>();
+    final List<TypeMirror> outer = List.copyOf(types.supertypes(string, t -> {
+          reentrant.add(List.copyOf(types.supertypes(integer)));
+          return true;
+        }));
+    assertEquals(List.copyOf(types.supertypes(string)), outer);
+    assertFalse(reentrant.isEmpty());
+    for (final List<TypeMirror> r : reentrant) {
+      assertEquals(expected, r);
+    }
+    assertEquals(expected, List.copyOf(types.supertypes(integer)));
+  }
+
+  @Test
+  final void testNegativeKeysAreRejected() {
+    final IntSet set = new IntSet();
+    assertThrows(IllegalArgumentException.class, () -> set.add(-1));
+    assertThrows(IllegalArgumentException.class, () -> set.add(Integer.MIN_VALUE));
+    assertTrue(set.isEmpty());
+    assertEquals(-1, set.indexOf(-1));
+    assertFalse(set.contains(-1));
+    assertThrows(IllegalArgumentException.class, () -> new IntSet(-1));
+  }
+
+  // Mirrors IntSet's (private) hash function.
+  private static final int mix(final int key) {
+    final int h = key * 0x9E3779B9;
+    return h ^ (h >>> 16);
+  }
+
+}
@@ -0,0 +1,63 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class TestInterner {
+
+  private TestInterner() {
+    super();
+  }
+
+  @Test
+  final void testEqualValuesInternToTheSameInstance() {
+    final Interner<List<String>> interner = new Interner<>();
+    final List<String> a = new ArrayList<>(List.of("a", "b"));
+    final List<String> equalToA = List.of("a", "b");
+    final List<String> c = List.of("c");
+    assertNotSame(a, equalToA);
+    assertSame(a, interner.intern(a));
+    assertSame(a, interner.intern(equalToA));
+    assertSame(c, interner.intern(c));
+    assertNotSame(interner.intern(a), interner.intern(c));
+    assertEquals(2, interner.size());
+    interner.clear();
+    assertEquals(0, interner.size());
+    assertSame(equalToA, interner.intern(equalToA));
+  }
+
+  @Test
+  final void testEqualValuesShareAKeyCarryingTheirHashCode() {
+    final Interner<List<String>> interner = new Interner<>();
+    final List<String> a = new ArrayList<>(List.of("a", "b"));
+    final Interner.Key<List<String>> k = interner.key(a);
+    assertSame(a, k.value());
+    assertEquals(a.hashCode(), k.hashCode());
+    assertSame(k, interner.key(List.of("a", "b")));
+    assertSame(a, interner.intern(List.of("a", "b")));
+    assertEquals(k, new Interner.Key<>(List.of("a", "b"), a.hashCode()));
+    assertNotEquals(k, interner.key(List.of("c")));
+    assertEquals(2, interner.size());
+  }
+
+}
@@ -0,0 +1,92 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.attributes.Attributes;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestQualifierSet {
+
+  private TestQualifierSet() {
+    super();
+  }
+
+  @Test
+  final void testIdentifiersSpillIntoOverflowWords() {
+    final Qualifiers q = new Qualifiers();
+    final List<Attributes> all = new ArrayList<>();
+    for (int i = 0; i < 140; i++) {
+      final Attributes a = Attributes.of("Q" + i, q.qualifier());
+      assertEquals(i, q.id(a));
+      all.add(a);
+    }
+    assertEquals(139, q.id(Attributes.of("Q139", q.qualifier()))); // equal Attributes, same identifier
+    final QualifierSet s = q.qualifierSet(List.of(all.get(1), all.get(63), all.get(64), all.get(139), Attributes.of("X")));
+    assertEquals(4, s.size());
+    for (int id = 0; id < 200; id++) {
+      assertEquals(id == 1 || id == 63 || id == 64 || id == 139, s.contains(id), String.valueOf(id));
+    }
+    assertEquals("{1, 63, 64, 139}", s.toString());
+    assertSame(QualifierSet.EMPTY, q.qualifierSet(List.of(Attributes.of("X"))));
+  }
+
+  @Test
+  final void testContainsAllAndIntersectsAcrossWordCounts() {
+    final QualifierSet one = QualifierSet.of(new long[] { 0b11L });               // {0, 1}
+    final QualifierSet two = QualifierSet.of(new long[] { 0b1L, 0b1L });          // {0, 64}
+    final QualifierSet three = QualifierSet.of(new long[] { 0b11L, 0b1L, 0b1L }); // {0, 1, 64, 128}
+    final QualifierSet high = QualifierSet.of(new long[] { 0L, 0L, 0b1L });       // {128}
+    assertTrue(three.containsAll(one));
+    assertTrue(three.containsAll(two));
+    assertTrue(three.containsAll(high));
+    assertFalse(one.containsAll(two));
+    assertFalse(two.containsAll(three));
+    assertFalse(one.containsAll(high));
+    assertTrue(one.containsAll(QualifierSet.EMPTY));
+    assertFalse(QualifierSet.EMPTY.containsAll(one));
+    assertTrue(one.intersects(two));
+    assertTrue(high.intersects(three));
+    assertTrue(three.intersects(high));
+    assertFalse(high.intersects(one));
+    assertFalse(high.intersects(two));
+    assertFalse(two.intersects(high));
+    assertFalse(QualifierSet.EMPTY.intersects(three));
+  }
+
+  @Test
+  final void testTrailingZeroWordsDoNotAffectEquality() {
+    final QualifierSet a = QualifierSet.of(new long[] { 0b101L });
+    final QualifierSet b = QualifierSet.of(new long[] { 0b101L, 0L, 0L });
+    assertEquals(a, b);
+    assertEquals(a.hashCode(), b.hashCode());
+    final QualifierSet c = QualifierSet.of(new long[] { 0b101L, 0b10L, 0L });
+    final QualifierSet d = QualifierSet.of(new long[] { 0b101L, 0b10L });
+    assertEquals(c, d);
+    assertEquals(c.hashCode(), d.hashCode());
+    assertNotEquals(a, c);
+    assertSame(QualifierSet.EMPTY, QualifierSet.of(new long[] { 0L, 0L }));
+    assertTrue(QualifierSet.of(new long[3]).isEmpty());
+  }
+
+}
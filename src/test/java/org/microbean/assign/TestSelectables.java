@@ -0,0 +1,104 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+final class TestSelectables {
+
+  private static final List<String> WORDS = List.of("apple", "avocado", "banana", "blueberry", "cherry", "apricot");
+
+  private TestSelectables() {
+    super();
+  }
+
+  @Test
+  final void testBoundedCachingEvictsLeastRecentlyUsed() {
+    for (final boolean soft : new boolean[] { false, true }) {
+      final List<Integer> computed = new ArrayList<>();
+      final Selectable<Integer, Integer> uncached = c -> List.of(c, c * 2);
+      // With a maximum size of 3 the cache has two segments of two entries each; even Integers share a segment
+      final Selectable<Integer, Integer> caching = Selectables.caching(c -> {
+          computed.add(c);
+          return uncached.select(c);
+        }, 3, soft);
+      for (final int c : new int[] { 0, 2, 0, 4, 0, 2 }) {
+        assertEquals(uncached.select(c), caching.select(c), String.valueOf(c));
+      }
+      // 0 was used more recently than 2 when 4 was cached, so 2, not 0, was evicted
+      assertEquals(List.of(0, 2, 4, 2), computed, "soft: " + soft);
+    }
+  }
+
+  @Test
+  final void testInternedCachingComputesEqualCriteriaOnce() {
+    final List<String> computed = new ArrayList<>();
+    final Selectable<String, String> filtering = Selectables.filtering(WORDS, String::startsWith);
+    final Interner<String> interner = new Interner<>();
+    final Selectable<String, String> caching = Selectables.caching(c -> {
+        computed.add(c);
+        return filtering.select(c);
+      }, 8, interner);
+    final String ap = new String("ap");
+    for (final String c : List.of(ap, new String("ap"), "b", new String("ap"), "b")) {
+      assertEquals(filtering.select(c), caching.select(c), c);
+    }
+    assertEquals(List.of("ap", "b"), computed);
+    assertSame(ap, computed.get(0)); // the canonical criteria
+    assertEquals(2, interner.size());
+  }
+
+  @Test
+  final void testIndexingSelectsLikeFiltering() {
+    final Selectable<String, String> filtering = Selectables.filtering(WORDS, String::startsWith);
+    final Selectable<String, String> indexing =
+      Selectables.indexing(WORDS, w -> List.of(w.substring(0, 1)), c -> c.isEmpty() ? null : c.substring(0, 1), String::startsWith);
+    for (final String c : List.of("a", "ap", "b", "c", "d", "")) {
+      assertEquals(filtering.select(c), indexing.select(c), c);
+    }
+    assertEquals(List.of("apple", "apricot"), indexing.select("ap"));
+    assertEquals(List.of("apple"), indexing.select("ap", 1));
+    assertEquals(List.of("apple"), filtering.select("ap", 1));
+    assertEquals(List.of(), filtering.select("ap", 0));
+  }
+
+  @Test
+  final void testParallelFilteringSelectsLikeFiltering() {
+    final Selectable<String, String> filtering = Selectables.filtering(WORDS, String::startsWith);
+    final Selectable<String, String> parallel = Selectables.filtering(WORDS, String::startsWith, ForkJoinPool.commonPool(), 1);
+    for (final String c : List.of("a", "ap", "b", "c", "d", "")) {
+      assertEquals(filtering.select(c), parallel.select(c), c);
+    }
+  }
+
+  @Test
+  final void testSelectAllSelectsLikeSelect() {
+    final Selectable<String, String> filtering = Selectables.filtering(WORDS, String::startsWith);
+    final List<String> criteria = List.of("a", "ap", "b", "c", "d", "", "a");
+    final List<List<String>> selections = filtering.selectAll(criteria);
+    assertEquals(criteria.size(), selections.size());
+    for (int i = 0; i < criteria.size(); i++) {
+      assertEquals(filtering.select(criteria.get(i)), selections.get(i), criteria.get(i));
+    }
+  }
+
+}
@@ -0,0 +1,100 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import javax.lang.model.element.TypeElement;
+
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+
+import org.junit.jupiter.api.Test;
+
+import org.microbean.construct.DefaultDomain;
+import org.microbean.construct.Domain;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+final class TestSpecializationComparator {
+
+  private TestSpecializationComparator() {
+    super();
+  }
+
+  @Test
+  final void testPrecomputedComparatorAgreesWithCompare() {
+    final Domain domain = new DefaultDomain();
+    final TypeElement list = domain.typeElement("java.util.List");
+    final TypeMirror string = domain.declaredType("java.lang.String");
+    // Two distinct but equal types, each a subtype of the other
+    final TypeMirror listOfString = domain.declaredType(list, string);
+    final TypeMirror sameListOfString = domain.declaredType(list, string);
+    assertNotSame(listOfString, sameListOfString);
+    final List<TypeMirror> members = new ArrayList<>();
+    for (final String n : List.of("java.lang.Object", "java.lang.Number", "java.lang.Integer", "java.lang.String",
+                                  "java.lang.CharSequence", "java.io.Serializable")) {
+      members.add(domain.declaredType(n));
+    }
+    members.add(listOfString);
+    members.add(sameListOfString);
+    members.add(domain.declaredType(domain.typeElement("java.util.ArrayList"), string));
+    members.add(domain.declaredType(domain.typeElement("java.util.Collection"), string));
+    members.add(domain.erasure(list.asType()));
+    members.add(domain.arrayTypeOf(string));
+    members.add(domain.primitiveType(TypeKind.INT));
+    members.add(string); // a duplicate
+    final List<TypeMirror> nonMembers =
+      List.of(domain.declaredType("java.lang.Long"), domain.declaredType(list, domain.declaredType("java.lang.Integer")));
+    final List<TypeMirror> all = new ArrayList<>(members);
+    all.addAll(nonMembers);
+    all.add(null);
+    final List<TypeMirror> universe = new ArrayList<>();
+    for (final TypeMirror t : members) {
+      if (t.getKind() == TypeKind.DECLARED) {
+        universe.add(t);
+      }
+    }
+    final HierarchyIndex index = new HierarchyIndex(new CachingTypes(domain), universe);
+    for (final SpecializationComparator c : List.of(new SpecializationComparator(domain),
+                                                    new SpecializationComparator(domain, index))) {
+      final Comparator<TypeMirror> p = c.precompute(members);
+      for (final TypeMirror t : all) {
+        for (final TypeMirror s : all) {
+          assertEquals(Integer.signum(c.compare(t, s)), Integer.signum(p.compare(t, s)), t + " <=> " + s);
+        }
+      }
+      assertTrue(p.compare(members.get(2), members.get(1)) < 0); // Integer <: Number
+      assertTrue(p.compare(members.get(0), members.get(3)) > 0); // Object :> String
+      assertEquals(0, p.compare(members.get(2), members.get(3))); // Integer, String: unrelated
+      assertEquals(0, p.compare(listOfString, sameListOfString));
+      assertEquals(0, p.compare(string, string));
+      // Sorting with the precomputed comparator puts subtypes first, just as sorting with c does
+      final TypeMirror[] sorted = members.toArray(new TypeMirror[0]);
+      Arrays.sort(sorted, p);
+      final TypeMirror[] expected = members.toArray(new TypeMirror[0]);
+      Arrays.sort(expected, c);
+      assertEquals(Arrays.asList(expected), Arrays.asList(sorted));
+    }
+    final SpecializationComparator c = new SpecializationComparator(domain);
+    assertThrows(NullPointerException.class, () -> c.precompute(Arrays.asList(string, null)));
+  }
+
+}
@@ -13,6 +13,7 @@
  */
 package org.microbean.assign;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.lang.model.type.TypeKind;
@@ -91,6 +92,71 @@ final class TestTypes {
     assertEquals("java.lang.constant.ConstantDesc", erasedName(ts.get(6)));
   }
 
+  @Test
+  final void testInterfaceSupertypesAreTopologicallyOrderedWithTiesBrokenByErasedName() {
+    final TypeMirror string = domain.declaredType("java.lang.String");
+    SupertypeList ts = types.supertypes(domain.declaredType(domain.typeElement("java.util.ArrayList"), string));
+    assertEquals(List.of("java.util.ArrayList",
+                         "java.util.AbstractList",
+                         "java.util.AbstractCollection",
+                         "java.lang.Object",
+                         // Interfaces with no interface subtypes, in erased name order
+                         "java.io.Serializable",
+                         "java.lang.Cloneable",
+                         "java.util.List",
+                         // Ready once List is placed; RandomAccess precedes SequencedCollection by name
+                         "java.util.RandomAccess",
+                         "java.util.SequencedCollection",
+                         "java.util.Collection",
+                         // Subtypes first, even though java.lang.Iterable precedes java.util.* by name
+                         "java.lang.Iterable"),
+                 erasedNames(ts));
+    assertEquals(4, ts.interfaceIndex());
+    // Set and SequencedCollection are both direct superinterfaces of SequencedSet
+    ts = types.supertypes(domain.declaredType(domain.typeElement("java.util.concurrent.ConcurrentSkipListSet"), string));
+    assertEquals(List.of("java.util.concurrent.ConcurrentSkipListSet",
+                         "java.util.AbstractSet",
+                         "java.util.AbstractCollection",
+                         "java.lang.Object",
+                         "java.io.Serializable",
+                         "java.lang.Cloneable",
+                         "java.util.NavigableSet",
+                         "java.util.SortedSet",
+                         "java.util.SequencedSet",
+                         "java.util.SequencedCollection",
+                         "java.util.Set",
+                         "java.util.Collection",
+                         "java.lang.Iterable"),
+                 erasedNames(ts));
+    assertEquals(4, ts.interfaceIndex());
+  }
+
+  @Test
+  final void testSupertypeListViews() {
+    final List<? extends TypeMirror> ts = types.supertypes(domain.declaredType("java.lang.String"));
+    final SupertypeList sl = (SupertypeList)ts;
+    assertEquals(ts.subList(0, 2), sl.nonInterfaceTypes());
+    assertEquals(ts.subList(2, 7), sl.interfaceTypes());
+    assertEquals(List.copyOf(ts), sl);
+    assertEquals(List.copyOf(ts).hashCode(), sl.hashCode());
+    for (int i = 0; i < 20; i++) { // exceeds the threshold at which an erased name index is built
+      assertEquals(3, sl.indexOfErasedName("java.lang.CharSequence"));
+      assertEquals(-1, sl.indexOfErasedName("java.lang.Number"));
+      assertEquals(1, sl.indexOf(ts.get(1)));
+    }
+  }
+
+  @Test
+  final void testFailedSupertypeListLookupsDoNotAssignErasedNames() {
+    final SupertypeList sl = types.supertypes(domain.declaredType("java.lang.String"));
+    final int size = types.erasedNames().size();
+    final TypeMirror numberArray = domain.arrayTypeOf(domain.declaredType("java.lang.Number"));
+    assertEquals(-1, sl.indexOf(numberArray));
+    assertEquals(-1, sl.indexOf(domain.declaredType("java.util.concurrent.Flow")));
+    assertEquals(size, types.erasedNames().size());
+    assertEquals(-1, types.erasedNames().existingId(numberArray));
+  }
+
   @Test
   final void testDirectSupertypesOfInterfaceA() {
     final List<? extends TypeMirror> ts = domain.directSupertypes(domain.declaredType(this.getClass().getName() + ".A"));
@@ -138,6 +204,20 @@ final class TestTypes {
     assertSame(t, ts.get(0));
   }
 
+  @Test
+  final void testErasedNamesAreCanonical() {
+    final ErasedNames names = types.erasedNames();
+    final TypeMirror listOfString =
+      domain.declaredType(domain.typeElement("java.util.List"), domain.declaredType("java.lang.String"));
+    final TypeMirror rawList = domain.declaredType("java.util.List");
+    assertEquals(names.id(listOfString), names.id(rawList));
+    assertSame(names.name(listOfString), names.name(rawList));
+    final TypeMirror stringArrayArray = domain.arrayTypeOf(domain.arrayTypeOf(domain.declaredType("java.lang.String")));
+    assertEquals(erasedName(stringArrayArray), names.name(stringArrayArray));
+    assertEquals(names.id(stringArrayArray), names.id(domain.arrayTypeOf(domain.arrayTypeOf(domain.declaredType("java.lang.String")))));
+    assertEquals("int", names.name(domain.primitiveType(TypeKind.INT)));
+  }
+
   /*
   @Test
   final <T> void testSupertypesOfTypeVariable() throws ReflectiveOperationException {
@@ -149,6 +229,14 @@ final class TestTypes {
   }
   */
 
+  private static final List<String> erasedNames(final List<? extends TypeMirror> ts) {
+    final List<String> names = new ArrayList<>(ts.size());
+    for (final TypeMirror t : ts) {
+      names.add(erasedName(t));
+    }
+    return names;
+  }
+
   private static interface A {};
 
   private static interface B extends A {};
@@ -0,0 +1,51 @@
+/* -*- mode: Java; c-basic-offset: 2; indent-tabs-mode: nil; coding: utf-8-unix -*-
+ *
+ * Copyright © 2025 microBean™.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ */
+package org.microbean.assign;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+final class TestWeakIdentityCache {
+
+  private TestWeakIdentityCache() {
+    super();
+  }
+
+  @Test
+  final void testKeysAreComparedByIdentity() {
+    final WeakIdentityCache<String, Object> cache = new WeakIdentityCache<>();
+    // Equal but distinct keys; enough of them to force several resizes
+    final List<String> keys = new ArrayList<>();
+    final List<Object> values = new ArrayList<>();
+    for (int i = 0; i < 100; i++) {
+      final String k = new String("k");
+      keys.add(k);
+      values.add(cache.computeIfAbsent(k, x -> new Object()));
+    }
+    assertEquals(100, cache.size());
+    for (int i = 0; i < 100; i++) {
+      assertSame(values.get(i), cache.computeIfAbsent(keys.get(i), x -> { throw new AssertionError(); }));
+    }
+    assertEquals(100, cache.size());
+    assertThrows(NullPointerException.class, () -> cache.computeIfAbsent(new String("k"), x -> null));
+    assertEquals(100, cache.size());
+  }
+
+}